@@ -0,0 +1,104 @@
+package com.vaadin.platform.git;
+
+import java.util.Comparator;
+
+/**
+ * The regex and split based comparators {@link GitService} used before
+ * {@link VersionKey} existed, kept as a baseline for the benchmarks.
+ */
+final class LegacyVersionComparators {
+
+    private LegacyVersionComparators() {
+    }
+
+    static class VersionComparator implements Comparator<String> {
+        @Override
+        public int compare(String version1, String version2) {
+            String[] parts1 = version1.split("[\\.-]"); // split on '.'
+            String[] parts2 = version2.split("[\\.-]");
+
+            int length = Math.min(parts1.length, parts2.length);
+            for (int i = 0; i < length; i++) {
+                int num1 = i < parts1.length ? Integer.parseInt(parts1[i]) : 0;
+                int num2 = i < parts2.length ? Integer.parseInt(parts2[i]) : 0;
+
+                if (num1 != num2) {
+                    return Integer.compare(num1, num2);
+                }
+            }
+
+            return 0;
+        }
+    }
+
+    static class VersionDetailsComparator
+            implements Comparator<VersionDetails> {
+
+        @Override
+        public int compare(VersionDetails v1, VersionDetails v2) {
+            int versionComparison = compareVersions(v1.getVersion(),
+                    v2.getVersion());
+            if (versionComparison != 0) {
+                return versionComparison;
+            }
+            // If versions are the same, compare by release date
+            return v1.getReleasedOn().compareTo(v2.getReleasedOn());
+        }
+
+        private int compareVersions(String version1, String version2) {
+
+            String[] parts1 = version1.split("[\\.-]");
+            String[] parts2 = version2.split("[\\.-]");
+
+            int maxLength = Math.min(parts1.length, parts2.length);
+            for (int i = 0; i < maxLength; i++) {
+                String part1 = i < parts1.length
+                        ? parts1[i].replaceAll("[^\\d]", "")
+                        : "0";
+                String part2 = i < parts2.length
+                        ? parts2[i].replaceAll("[^\\d]", "")
+                        : "0";
+
+                int numPart1 = part1.isEmpty() ? 0 : Integer.parseInt(part1);
+                int numPart2 = part2.isEmpty() ? 0 : Integer.parseInt(part2);
+
+                if (numPart1 != numPart2) {
+                    return Integer.compare(numPart1, numPart2);
+                }
+
+                // Compare pre-release identifiers if numeric parts are equal
+                if (i < parts1.length && i < parts2.length) {
+                    String tail1 = parts1[i].replaceAll("\\d", "");
+                    String tail2 = parts2[i].replaceAll("\\d", "");
+
+                    if (!tail1.equals(tail2)) {
+                        return comparePreRelease(tail1, tail2);
+                    }
+                }
+            }
+
+            return 0;
+        }
+
+        private int comparePreRelease(String pre1, String pre2) {
+            String[] order = { "SNAPSHOT", "alpha", "beta", "rc", "" }; // ""
+                                                                        // represents
+                                                                        // stable
+
+            int index1 = getPreReleaseIndex(pre1, order);
+            int index2 = getPreReleaseIndex(pre2, order);
+
+            return Integer.compare(index1, index2);
+        }
+
+        private int getPreReleaseIndex(String identifier, String[] order) {
+            for (int i = 0; i < order.length; i++) {
+                if (identifier.startsWith(order[i])) {
+                    return i;
+                }
+            }
+            return order.length; // For unknown identifiers, place them last
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the data pipeline from the tag list to the consolidated
+ * {@link MajorVersionInfo} list. Reading the tag cache is covered by
+ * {@link TagCacheBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private GitService gitService;
+
+    @Setup(Level.Trial)
+    public void setup(final TagDataset dataset) {
+        this.gitService = dataset.gitService();
+    }
+
+    @Benchmark
+    public List<VersionDetails> fetchVersionDetails()
+            throws IOException, InterruptedException {
+        return this.gitService.fetchVersionDetails("vaadin", "synthetic");
+    }
+
+    @Benchmark
+    public List<MajorVersionInfo> consolidatedVersionsInfo()
+            throws IOException, InterruptedException {
+        return this.gitService
+                .consolidatedVersionsInfo(TagDataset.REPOSITORY);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.vaadin.platform.git;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading all versions of a snapshot through the
+ * {@link VersionDetails} views of the {@link ReleaseIndex}, which create a row
+ * per access, against the primitive columns. The pre-release benchmarks
+ * compare filtering on every call with the precomputed positions. Run with
+ * {@code -prof gc} to see the heap allocated per pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReleaseIndexBenchmark {
+
+    private List<MajorVersionInfo> versionsInfo;
+    private ReleaseIndex index;
+
+    @Setup(Level.Trial)
+    public void setup(final TagDataset dataset) {
+        this.versionsInfo = dataset.versionsInfo;
+        this.index = this.versionsInfo.get(0).getIndex();
+    }
+
+    @Benchmark
+    public void versionsView(final Blackhole blackhole) {
+        for (final MajorVersionInfo info : this.versionsInfo) {
+            for (final VersionDetails item : info.getAllVersions()) {
+                blackhole.consume(item.getReleasedOn());
+            }
+        }
+    }
+
+    @Benchmark
+    public void columns(final Blackhole blackhole) {
+        for (int i = 0; i < this.index.size(); i++) {
+            blackhole.consume(this.index.releasedOn(i));
+        }
+    }
+
+    @Benchmark
+    public void filterPreVersions(final Blackhole blackhole) {
+        for (final MajorVersionInfo info : this.versionsInfo) {
+            blackhole.consume(info.getAllVersions().stream()
+                    .filter(item -> item.getKey().isPreRelease()).toList());
+        }
+    }
+
+    @Benchmark
+    public void preVersionsView(final Blackhole blackhole) {
+        for (final MajorVersionInfo info : this.versionsInfo) {
+            for (final VersionDetails item : info.getPreVersions()) {
+                blackhole.consume(item);
+            }
+        }
+    }
+
+}
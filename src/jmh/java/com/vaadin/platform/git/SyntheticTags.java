@@ -0,0 +1,81 @@
+package com.vaadin.platform.git;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates tag lists that look like the ones of vaadin/platform: every
+ * "major.minor" line gets alphas, betas and release candidates, the .0 release
+ * and a tail of maintenance releases.
+ */
+public final class SyntheticTags {
+
+    private static final String[] CREATORS = { "release-bot", "mshabarov",
+            "manolo", "tltv", "mcollovati", "caalador", "web-padawan" };
+
+    private SyntheticTags() {
+    }
+
+    /**
+     * Returns {@code count} tags in random order, as the API does not sort
+     * them by version.
+     */
+    public static List<VersionDetails> generate(final int count,
+            final long seed) {
+        final Random random = new Random(seed);
+        final List<VersionDetails> result = new ArrayList<>(count);
+        OffsetDateTime date = OffsetDateTime.of(2015, 1, 1, 10, 0, 0, 0,
+                ZoneOffset.UTC);
+        int major = 1;
+        int minor = 0;
+        while (result.size() < count) {
+            final String line = major + "." + minor + ".";
+            for (final String kind : new String[] { "alpha", "beta", "rc" }) {
+                final int releases = 1 + random.nextInt(8);
+                for (int i = 1; i <= releases; i++) {
+                    final String separator = random.nextBoolean() ? "-" : ".";
+                    date = date.plusDays(1 + random.nextInt(7));
+                    result.add(create(random, line + "0" + separator + kind + i,
+                            date));
+                }
+            }
+            final int patches = 1 + random.nextInt(60);
+            OffsetDateTime patchDate = date;
+            for (int patch = 0; patch < patches; patch++) {
+                patchDate = patchDate.plusDays(3 + random.nextInt(20));
+                result.add(create(random, line + patch, patchDate));
+            }
+            if (++minor > 9) {
+                minor = 0;
+                major++;
+            }
+        }
+        final List<VersionDetails> tags = result.subList(0, count);
+        Collections.shuffle(tags, random);
+        return new ArrayList<>(tags);
+    }
+
+    /**
+     * Returns fresh instances of the given tags, without any cached parsed
+     * state.
+     */
+    public static List<VersionDetails> copy(final List<VersionDetails> tags) {
+        final List<VersionDetails> result = new ArrayList<>(tags.size());
+        for (final VersionDetails tag : tags) {
+            result.add(new VersionDetails(tag.getVersion(), tag.getReleasedOn(),
+                    tag.getCreator()));
+        }
+        return result;
+    }
+
+    private static VersionDetails create(final Random random,
+            final String version, final OffsetDateTime date) {
+        return new VersionDetails(version, date,
+                CREATORS[random.nextInt(CREATORS.length)]);
+    }
+
+}
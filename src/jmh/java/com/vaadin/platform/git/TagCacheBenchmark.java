@@ -0,0 +1,91 @@
+package com.vaadin.platform.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares loading the tag cache in the JSON and the binary format through
+ * {@link GitHubTagService#fetchAllTags(String, String)}. Run with
+ * {@code -prof gc} to see the heap allocated per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagCacheBenchmark {
+
+    @Param({ "json", "binary" })
+    private String format;
+
+    private Path cacheFolder;
+    private GitHubTagService tagService;
+
+    @Setup(Level.Trial)
+    public void setup(final TagDataset dataset) throws IOException {
+        this.cacheFolder = Files.createTempDirectory("tag-cache-benchmark");
+        if ("binary".equals(this.format)) {
+            BinaryTagCache.write(
+                    this.cacheFolder.resolve("github-tags-vaadin_synthetic.bin"),
+                    dataset.tags);
+        } else {
+            final ObjectMapper mapper = new ObjectMapper();
+            mapper.registerModule(new JavaTimeModule());
+            mapper.writeValue(
+                    new File(this.cacheFolder.toFile(),
+                            "github-tags-vaadin_synthetic.json"),
+                    dataset.tags);
+        }
+
+        this.tagService = new GitHubTagService();
+        ReflectionTestUtils.setField(this.tagService, "tagCacheEnabled", true);
+        ReflectionTestUtils.setField(this.tagService, "tagCacheDuration",
+                Long.valueOf(Integer.MAX_VALUE));
+        ReflectionTestUtils.setField(this.tagService, "tagCacheFolder",
+                this.cacheFolder.toString());
+        ReflectionTestUtils.setField(this.tagService, "tagCacheFormat",
+                this.format);
+        ReflectionTestUtils.setField(this.tagService, "meterRegistry",
+                new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws IOException {
+        try (var files = Files.walk(this.cacheFolder)) {
+            files.map(Path::toFile).sorted((a, b) -> b.compareTo(a))
+                    .forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public List<VersionDetails> readCache()
+            throws IOException, InterruptedException {
+        return this.tagService.fetchAllTags("vaadin", "synthetic");
+    }
+
+}
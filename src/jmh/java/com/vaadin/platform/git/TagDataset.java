@@ -0,0 +1,60 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Shared synthetic dataset for the pipeline benchmarks, scaled by the
+ * {@code tagCount} parameter.
+ */
+@State(Scope.Benchmark)
+public class TagDataset {
+
+    public static final GitRepository REPOSITORY = new GitRepository("vaadin",
+            "synthetic");
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int tagCount;
+
+    /** Tags in the random order the API returns them. */
+    public List<VersionDetails> tags;
+    /** The consolidated data the views work on. */
+    public List<MajorVersionInfo> versionsInfo;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException, InterruptedException {
+        this.tags = SyntheticTags.generate(this.tagCount, 42);
+        this.versionsInfo = this.gitService()
+                .consolidatedVersionsInfo(REPOSITORY);
+    }
+
+    /**
+     * Returns a {@link GitService} that is fed with fresh copies of the
+     * synthetic tags instead of the GitHub API.
+     */
+    public GitService gitService() {
+        final GitService gitService = new GitService();
+        final GitHubTagService tagService = new GitHubTagService() {
+            @Override
+            public List<VersionDetails> fetchAllTags(final String repoOwner,
+                    final String repoName) {
+                return SyntheticTags.copy(TagDataset.this.tags);
+            }
+        };
+        ReflectionTestUtils.setField(gitService, "tagSource",
+                tagService);
+        ReflectionTestUtils.setField(gitService, "meterRegistry",
+                new SimpleMeterRegistry());
+        return gitService;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.vaadin.platform.git;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares reading GraphQL tag pages into a {@code JsonNode} tree, as
+ * {@link GitHubTagService} did before, with streaming them through
+ * {@link TagPageReader}. Pages hold 100 tags like the real crawl; run with
+ * {@code -prof gc} to see the heap allocated per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagPageParsingBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({ "100" })
+    private int pageSize;
+
+    private byte[] response;
+    private GitHubGraphQlClient client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final List<VersionDetails> tags = SyntheticTags.generate(this.pageSize,
+                42);
+        final StringBuilder nodes = new StringBuilder();
+        for (int i = 0; i < tags.size(); i++) {
+            final VersionDetails tag = tags.get(i);
+            // GitHub always sends the seconds, toString() would drop them
+            final String date = DateTimeFormatter.ISO_OFFSET_DATE_TIME
+                    .format(tag.getReleasedOn());
+            if (i > 0) {
+                nodes.append(',');
+            }
+            // mix annotated and lightweight tags like the real repository
+            if (i % 2 == 0) {
+                nodes.append("""
+                        {"name":"%s","target":{"__typename":"Tag","tagger":\
+                        {"name":"%s","date":"%s","user":{"login":"%s"}}}}"""
+                        .formatted(tag.getVersion(), tag.getCreator(),
+                                date, tag.getCreator()));
+            } else {
+                nodes.append("""
+                        {"name":"%s","target":{"__typename":"Commit",\
+                        "committedDate":"%s","author":{"name":"%s",\
+                        "user":{"login":"%s"}}}}""".formatted(
+                        tag.getVersion(), date,
+                        tag.getCreator(), tag.getCreator()));
+            }
+        }
+        this.response = """
+                {"data":{"rateLimit":{"cost":1,"remaining":4999,\
+                "resetAt":"2030-01-01T00:00:00Z"},"repository":{"refs":{\
+                "pageInfo":{"hasNextPage":true,"endCursor":"Y3Vyc29y"},\
+                "nodes":[%s]}}}}""".formatted(nodes)
+                .getBytes(StandardCharsets.UTF_8);
+        this.client = new GitHubGraphQlClient();
+    }
+
+    @Benchmark
+    public List<VersionDetails> tree() throws IOException {
+        final JsonNode root = MAPPER
+                .readTree(new ByteArrayInputStream(this.response));
+        final JsonNode refs = root.path("data").path("repository")
+                .path("refs");
+        final List<VersionDetails> result = new ArrayList<>();
+        for (final JsonNode node : refs.path("nodes")) {
+            result.add(toVersionDetails(node));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<VersionDetails> streaming() throws IOException {
+        try (JsonParser parser = MAPPER
+                .createParser(new ByteArrayInputStream(this.response))) {
+            return this.client
+                    .readResponse(parser, new TagPageReader(this.pageSize))
+                    .tags();
+        }
+    }
+
+    // the tree walk GitHubTagService used before the streaming reader
+    private static VersionDetails toVersionDetails(final JsonNode node) {
+        final String tagName = node.path("name").asText();
+        final JsonNode target = node.path("target");
+        final String type = target.path("__typename").asText();
+        String createdBy = null;
+        String createdAt = null;
+
+        if ("Tag".equals(type)) {
+            final JsonNode tagger = target.path("tagger");
+            createdBy = tagger.path("user").path("login").asText(null);
+            if (createdBy == null) {
+                createdBy = tagger.path("name").asText();
+            }
+            createdAt = tagger.path("date").asText();
+        } else if ("Commit".equals(type)) {
+            final JsonNode author = target.path("author");
+            createdBy = author.path("user").path("login").asText(null);
+            if (createdBy == null) {
+                createdBy = author.path("name").asText();
+            }
+            createdAt = target.path("committedDate").asText();
+        }
+        return new VersionDetails(tagName, OffsetDateTime.parse(createdAt),
+                createdBy);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.vaadin.platform.git;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sorting and grouping with the legacy split/regex comparators and
+ * with the pre-parsed {@link VersionKey}. Every invocation works on fresh
+ * {@link VersionDetails} instances, so the parsing cost is part of the
+ * measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VersionComparatorBenchmark {
+
+    @Param({ "50000" })
+    private int tagCount;
+
+    private List<VersionDetails> tags;
+    private List<VersionDetails> sortedTags;
+    private List<VersionDetails> work;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        this.tags = SyntheticTags.generate(this.tagCount, 42);
+        this.sortedTags = SyntheticTags.copy(this.tags);
+        this.sortedTags.sort(GitService.VERSION_ORDER);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        this.work = SyntheticTags.copy(this.tags);
+    }
+
+    @Benchmark
+    public List<VersionDetails> sortLegacy() {
+        this.work.sort(new LegacyVersionComparators.VersionDetailsComparator());
+        return this.work;
+    }
+
+    @Benchmark
+    public List<VersionDetails> sortVersionKey() {
+        this.work.sort(GitService.VERSION_ORDER);
+        return this.work;
+    }
+
+    @Benchmark
+    public Map<String, List<VersionDetails>> groupLegacy() {
+        final var versionMap = new TreeMap<String, List<VersionDetails>>(
+                new LegacyVersionComparators.VersionComparator());
+        for (final var item : SyntheticTags.copy(this.sortedTags)) {
+            final var tmp = item.getVersion().split("[\\.-]");
+            versionMap.computeIfAbsent(tmp[0] + "." + tmp[1],
+                    key -> new ArrayList<>()).add(item);
+        }
+        return versionMap;
+    }
+
+    @Benchmark
+    public Map<String, List<VersionDetails>> groupVersionKey() {
+        final var versionMap = new LinkedHashMap<String, List<VersionDetails>>();
+        for (final var item : SyntheticTags.copy(this.sortedTags)) {
+            versionMap.computeIfAbsent(item.getKey().getMajorVersion(),
+                    key -> new ArrayList<>()).add(item);
+        }
+        return versionMap;
+    }
+
+}
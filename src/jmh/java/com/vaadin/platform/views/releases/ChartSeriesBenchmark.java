@@ -0,0 +1,68 @@
+package com.vaadin.platform.views.releases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.platform.git.MajorVersionInfo;
+import com.vaadin.platform.git.TagDataset;
+
+/**
+ * Benchmarks building the chart series from the consolidated data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChartSeriesBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean isPre;
+
+    private VersionsTimelineChart timelineChart;
+    private VersionsXRangeChart xRangeChart;
+
+    @Setup(Level.Trial)
+    public void setup(final TagDataset dataset) {
+        final List<MajorVersionInfo> versionsInfo = dataset.versionsInfo;
+        this.timelineChart = new VersionsTimelineChart(null,
+                TagDataset.REPOSITORY, versionsInfo.get(versionsInfo.size() - 1));
+        this.timelineChart.setPre(this.isPre);
+        this.xRangeChart = new VersionsXRangeChart(versionsInfo, this.isPre);
+    }
+
+    /**
+     * Builds the timeline series of every major version, as if a user clicked
+     * through all of them.
+     */
+    @Benchmark
+    public List<DataSeries> timelineSeries(final TagDataset dataset) {
+        final List<DataSeries> result = new ArrayList<>();
+        for (final MajorVersionInfo info : dataset.versionsInfo) {
+            result.add(this.timelineChart.prepareChartData(info));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public DataSeries xRangeSeries() {
+        return this.xRangeChart.prepareChartData();
+    }
+
+}
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.PropertySources;
 
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.theme.Theme;
 
 /**
@@ -14,6 +15,7 @@ import com.vaadin.flow.theme.Theme;
  * the application installable on phones, tablets and some desktop browsers.
  */
 @SpringBootApplication
+@Push
 @Theme(value = "hackathon-24")
 @PropertySources({
     @PropertySource("classpath:application.properties")})
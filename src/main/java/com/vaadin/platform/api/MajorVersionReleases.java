@@ -0,0 +1,47 @@
+package com.vaadin.platform.api;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.vaadin.platform.git.ReleaseIndex;
+import com.vaadin.platform.git.VersionDetails;
+
+/**
+ * The versions of one major version of a {@link ReleaseIndex}, serialized as
+ * a JSON array of {@link VersionDetails} objects. The array is written from
+ * the columns of the index, so a request creates no rows and the snapshot
+ * keeps none.
+ */
+@JsonSerialize(using = MajorVersionReleases.Serializer.class)
+public record MajorVersionReleases(ReleaseIndex index, int major) {
+
+    static class Serializer extends StdSerializer<MajorVersionReleases> {
+
+        Serializer() {
+            super(MajorVersionReleases.class);
+        }
+
+        @Override
+        public void serialize(final MajorVersionReleases value,
+                final JsonGenerator generator,
+                final SerializerProvider provider) throws IOException {
+            final ReleaseIndex index = value.index();
+            generator.writeStartArray();
+            for (int i = index.start(value.major()); i < index
+                    .end(value.major()); i++) {
+                generator.writeStartObject();
+                generator.writeStringField("version", index.version(i));
+                // formatted by the configured mapper, like VersionDetails
+                provider.defaultSerializeField("releasedOn",
+                        index.releasedOnDate(i), generator);
+                generator.writeStringField("creator", index.creator(i));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+}
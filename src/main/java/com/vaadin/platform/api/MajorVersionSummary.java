@@ -0,0 +1,25 @@
+package com.vaadin.platform.api;
+
+import java.time.OffsetDateTime;
+
+import com.vaadin.platform.git.MajorVersionInfo;
+import com.vaadin.platform.git.MajorVersionStatistics;
+
+/**
+ * {@link MajorVersionInfo} without the version lists, which are served by a
+ * separate endpoint per major version. Durations of the statistics are
+ * ISO-8601 strings like {@code PT72H}.
+ */
+public record MajorVersionSummary(String majorVersion,
+        OffsetDateTime firstRelease, OffsetDateTime lastRelease,
+        OffsetDateTime lastPreRelease, int numberOfReleases,
+        int numberOfPreReleases, MajorVersionStatistics statistics) {
+
+    static MajorVersionSummary of(final MajorVersionInfo info) {
+        return new MajorVersionSummary(info.getMajorVersion(),
+                info.getFirstRelease(), info.getLastRelease(),
+                info.getLastPreRelease(), info.getNumberOfReleases(),
+                info.getNumberOfPreReleases(), info.getStatistics());
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.vaadin.platform.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.vaadin.platform.git.GitHubService;
+import com.vaadin.platform.git.GitRepository;
+import com.vaadin.platform.git.ReleaseIndex;
+import com.vaadin.platform.git.VersionsSnapshot;
+import com.vaadin.platform.git.VersionsSnapshotService;
+
+/**
+ * Read-only JSON API over the published snapshots, served next to the Vaadin
+ * routes. Responses carry a strong ETag, the fingerprint of the snapshot for
+ * version data and a hash of the text for release notes. Spring answers
+ * requests with a matching {@code If-None-Match} with an empty 304 response,
+ * so polling clients only download data that changed. Only configured
+ * repositories are served.
+ */
+@RestController
+@RequestMapping("/api/repositories")
+public class ReleasesApiController {
+
+    private static final MediaType MARKDOWN = new MediaType("text",
+            "markdown", StandardCharsets.UTF_8);
+
+    // max age in seconds clients may use a response without revalidating
+    @Value("${api.cache.maxAge}")
+    private long maxAge;
+    @Value("${api.cache.releaseNotesMaxAge}")
+    private long releaseNotesMaxAge;
+
+    private final VersionsSnapshotService snapshotService;
+    private final GitHubService gitHubService;
+
+    public ReleasesApiController(final VersionsSnapshotService snapshotService,
+            final GitHubService gitHubService) {
+        this.snapshotService = snapshotService;
+        this.gitHubService = gitHubService;
+    }
+
+    @GetMapping
+    public List<String> repositories() {
+        return this.snapshotService.getRepositories().stream()
+                .map(GitRepository::toString).toList();
+    }
+
+    @GetMapping("/{owner}/{name}/majors")
+    public ResponseEntity<List<MajorVersionSummary>> majors(
+            @PathVariable final String owner,
+            @PathVariable final String name) {
+        final VersionsSnapshot snapshot = this.snapshot(owner, name);
+        return ResponseEntity.ok().cacheControl(this.cacheControl(this.maxAge))
+                .eTag(etag(snapshot.getFingerprint()))
+                .body(snapshot.getVersionsInfo().stream()
+                        .map(MajorVersionSummary::of).toList());
+    }
+
+    @GetMapping("/{owner}/{name}/majors/{majorVersion}/versions")
+    public ResponseEntity<MajorVersionReleases> versions(
+            @PathVariable final String owner,
+            @PathVariable final String name,
+            @PathVariable final String majorVersion) {
+        final VersionsSnapshot snapshot = this.snapshot(owner, name);
+        final ReleaseIndex index = snapshot.getIndex();
+        final int major = index.indexOf(majorVersion);
+        if (major < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Unknown major version " + majorVersion);
+        }
+        return ResponseEntity.ok().cacheControl(this.cacheControl(this.maxAge))
+                .eTag(etag(snapshot.getFingerprint()))
+                .body(new MajorVersionReleases(index, major));
+    }
+
+    @GetMapping("/{owner}/{name}/releases/{version}/notes")
+    public ResponseEntity<String> releaseNotes(
+            @PathVariable final String owner,
+            @PathVariable final String name,
+            @PathVariable final String version) {
+        final VersionsSnapshot snapshot = this.snapshot(owner, name);
+        // unknown versions must not use up the GitHub API quota
+        if (snapshot.getIndex().find(version) < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Unknown version " + version);
+        }
+        final String notes = this.gitHubService
+                .fetchReleaseNotes(snapshot.getRepository(), version);
+        if (GitHubService.FETCH_FAILED.equals(notes)) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                    "Failed to fetch release notes of " + version);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(this.cacheControl(this.releaseNotesMaxAge))
+                .eTag(etag(DigestUtils.md5DigestAsHex(
+                        notes.getBytes(StandardCharsets.UTF_8))))
+                .contentType(MARKDOWN).body(notes);
+    }
+
+    private GitRepository repository(final String owner, final String name) {
+        final GitRepository repository = new GitRepository(owner, name);
+        if (!this.snapshotService.getRepositories().contains(repository)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Unknown repository " + repository);
+        }
+        return repository;
+    }
+
+    private VersionsSnapshot snapshot(final String owner, final String name) {
+        final GitRepository repository = this.repository(owner, name);
+        try {
+            return this.snapshotService.getSnapshot(repository);
+        } catch (final IOException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Failed to load releases of " + repository, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Interrupted while loading releases of " + repository, e);
+        }
+    }
+
+    private CacheControl cacheControl(final long seconds) {
+        return CacheControl.maxAge(seconds, TimeUnit.SECONDS).cachePublic()
+                .mustRevalidate();
+    }
+
+    private static String etag(final String value) {
+        return '"' + value + '"';
+    }
+
+}
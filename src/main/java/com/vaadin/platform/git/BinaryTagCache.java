@@ -0,0 +1,140 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format of the tag cache. The file consists of a header,
+ * fixed-width records and a string table:
+ *
+ * <pre>
+ * header:  int magic, int format version, int record count, int table size
+ * record:  long epoch millis, int zone offset seconds,
+ *          int version offset, int creator offset (-1 for none)
+ * table:   per distinct string an int byte length followed by UTF-8 bytes
+ * </pre>
+ *
+ * Strings are stored once, so repeating creators cost four bytes per tag, and
+ * reading returns one shared String instance per distinct creator. Files are
+ * read through a memory-mapped {@link FileChannel}.
+ */
+final class BinaryTagCache {
+
+    private static final int MAGIC = 0x52475443; // "RGTC"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int RECORD_SIZE = Long.BYTES + 3 * Integer.BYTES;
+
+    private BinaryTagCache() {
+    }
+
+    static void write(final Path file, final List<VersionDetails> details)
+            throws IOException {
+        final Map<String, Integer> offsets = new HashMap<>();
+        final List<byte[]> strings = new ArrayList<>();
+        final int[] tableSize = { 0 };
+        final ByteBuffer records = ByteBuffer
+                .allocate(details.size() * RECORD_SIZE);
+        for (final VersionDetails item : details) {
+            final OffsetDateTime releasedOn = item.getReleasedOn();
+            records.putLong(releasedOn.toInstant().toEpochMilli());
+            records.putInt(releasedOn.getOffset().getTotalSeconds());
+            for (final String value : new String[] { item.getVersion(),
+                    item.getCreator() }) {
+                if (value == null) {
+                    records.putInt(-1);
+                    continue;
+                }
+                records.putInt(offsets.computeIfAbsent(value, key -> {
+                    final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                    strings.add(bytes);
+                    final int offset = tableSize[0];
+                    tableSize[0] += Integer.BYTES + bytes.length;
+                    return offset;
+                }));
+            }
+        }
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(details.size())
+                .putInt(tableSize[0]);
+        final ByteBuffer table = ByteBuffer.allocate(tableSize[0]);
+        for (final byte[] bytes : strings) {
+            table.putInt(bytes.length).put(bytes);
+        }
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer[] buffers = { header.flip(), records.flip(),
+                    table.flip() };
+            long remaining = HEADER_SIZE + records.limit() + table.limit();
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+        }
+    }
+
+    static List<VersionDetails> read(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Truncated tag cache file " + file);
+            }
+            final MappedByteBuffer buffer = channel
+                    .map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC
+                    || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported tag cache file " + file);
+            }
+            final int count = buffer.getInt();
+            final int tableSize = buffer.getInt();
+            final long recordsEnd = HEADER_SIZE + (long) count * RECORD_SIZE;
+            if (count < 0 || tableSize < 0 || recordsEnd + tableSize != size) {
+                throw new IOException("Corrupt tag cache file " + file);
+            }
+            final int tableStart = (int) recordsEnd;
+
+            // versions are unique, only creators are worth sharing
+            final Map<Integer, String> creators = new HashMap<>();
+            final List<VersionDetails> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final long epochMillis = buffer.getLong();
+                final ZoneOffset offset = ZoneOffset
+                        .ofTotalSeconds(buffer.getInt());
+                final String version = readString(buffer,
+                        tableStart + buffer.getInt());
+                final int creatorOffset = buffer.getInt();
+                final String creator = creatorOffset < 0 ? null
+                        : creators.computeIfAbsent(creatorOffset,
+                                key -> readString(buffer, tableStart + key));
+                result.add(new VersionDetails(version,
+                        OffsetDateTime.ofInstant(
+                                Instant.ofEpochMilli(epochMillis), offset),
+                        creator));
+            }
+            return result;
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer,
+            final int position) {
+        final byte[] bytes = new byte[buffer.getInt(position)];
+        buffer.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
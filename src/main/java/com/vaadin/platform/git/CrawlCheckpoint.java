@@ -0,0 +1,154 @@
+package com.vaadin.platform.git;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Progress of a running tag crawl, persisted next to the tag cache so a crawl
+ * interrupted by a failure or a restart continues where it stopped. The file
+ * is in JSON Lines format: a header line with the start time of the crawl,
+ * followed by one line per completed page with the tags of the page and the
+ * cursor to continue from. Pages are appended, so each one is written once.
+ * <p>
+ * A line cut off by a crash is ignored together with everything after it.
+ * Checkpoints older than the maximum age are discarded, as tags created in
+ * the meantime would be missed when continuing with an old cursor.
+ */
+final class CrawlCheckpoint {
+    private static final Logger LOGGER = LogManager
+            .getLogger(CrawlCheckpoint.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    private record Header(Instant startedAt) {
+    }
+
+    private record Page(String cursor, List<VersionDetails> tags) {
+    }
+
+    /**
+     * State to continue a crawl from.
+     *
+     * @param cursor
+     *            cursor of the next page, {@code null} if all pages were read
+     * @param tags
+     *            tags of all completed pages in crawl order
+     */
+    record Progress(String cursor, List<VersionDetails> tags) {
+    }
+
+    private final Path file;
+    private final long maxAge;
+
+    /**
+     * @param maxAge
+     *            maximum age of a checkpoint in seconds
+     */
+    CrawlCheckpoint(final Path file, final long maxAge) {
+        this.file = file;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Returns the progress of an interrupted crawl, or {@code null} if there
+     * is no usable checkpoint.
+     */
+    Progress load() {
+        if (!Files.exists(this.file)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(this.file,
+                StandardCharsets.UTF_8)) {
+            final String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return null;
+            }
+            final Header header = MAPPER.readValue(headerLine, Header.class);
+            if (header.startedAt().plusSeconds(this.maxAge)
+                    .isBefore(Instant.now())) {
+                LOGGER.info("Discarding outdated crawl checkpoint {}",
+                        this.file);
+                this.delete();
+                return null;
+            }
+            final List<VersionDetails> tags = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final Page page;
+                try {
+                    page = MAPPER.readValue(line, Page.class);
+                } catch (final JsonProcessingException e) {
+                    LOGGER.warn("Ignoring incomplete page in {}", this.file);
+                    break;
+                }
+                tags.addAll(page.tags());
+                cursor = page.cursor();
+                pages++;
+            }
+            if (pages == 0) {
+                return null;
+            }
+            LOGGER.info("Resuming crawl after {} pages with {} tags from {}",
+                    pages, tags.size(), this.file);
+            return new Progress(cursor, tags);
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to read crawl checkpoint {}", this.file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Starts a new checkpoint, replacing any previous one.
+     */
+    void start() throws IOException {
+        try (Writer writer = Files.newBufferedWriter(this.file,
+                StandardCharsets.UTF_8)) {
+            writer.write(MAPPER.writeValueAsString(new Header(Instant.now())));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Records a completed page.
+     *
+     * @param cursor
+     *            cursor of the next page, {@code null} after the last page
+     */
+    void append(final String cursor, final List<VersionDetails> tags)
+            throws IOException {
+        final String line = MAPPER.writeValueAsString(new Page(cursor, tags))
+                + '\n';
+        Files.writeString(this.file, line, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Removes the checkpoint once the crawl is complete.
+     */
+    void delete() {
+        try {
+            Files.deleteIfExists(this.file);
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to delete crawl checkpoint {}", this.file, e);
+        }
+    }
+
+}
@@ -0,0 +1,394 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Sends GraphQL queries to GitHub while staying within the rate limit. The
+ * remaining budget is read from the {@code X-RateLimit-*} headers and from
+ * the {@code rateLimit { cost remaining resetAt }} field if a query selects
+ * it. Requests are spread evenly over the time left until the reset once the
+ * budget runs low, and held back entirely when only the reserve is left.
+ * <p>
+ * Throttled requests (429, 403 with rate limit headers or a
+ * {@code RATE_LIMITED} GraphQL error) are retried after {@code Retry-After}
+ * or the reset time. Server errors and I/O failures are retried with a
+ * jittered exponential backoff, other client errors and GraphQL errors are
+ * not retried. Callers paging through results therefore
+ * continue from their last cursor instead of starting over.
+ */
+@Component
+public class GitHubGraphQlClient {
+    private static final Logger LOGGER = LogManager
+            .getLogger(GitHubGraphQlClient.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Value("${github.graphql.api.url}")
+    private String graphqlApiUrl;
+    @Value("${github.personal.token}")
+    private String githubToken;
+    // below this many remaining points wait for the reset
+    @Value("${github.ratelimit.reserve}")
+    private int reserve;
+    // below this many remaining points spread requests until the reset
+    @Value("${github.ratelimit.paceBelow}")
+    private int paceBelow;
+    @Value("${github.retry.maxAttempts}")
+    private int maxAttempts;
+    // backoff delays in milliseconds
+    @Value("${github.retry.initialBackoff}")
+    private long initialBackoff;
+    @Value("${github.retry.maxBackoff}")
+    private long maxBackoff;
+    @Autowired
+    private GitHubHttpClient httpClient;
+
+    // last known budget, -1 while unknown
+    private int remaining = -1;
+    private Instant resetAt;
+
+    /**
+     * Thrown for responses that may succeed when retried later.
+     */
+    private static class RetryableException extends IOException {
+        private final Duration retryAfter;
+
+        RetryableException(final String message, final Duration retryAfter) {
+            super(message);
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    /**
+     * Thrown for responses that will fail the same way when retried.
+     */
+    private static class PermanentException extends IOException {
+        PermanentException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Reads the fields of the {@code data} object of a response while it is
+     * being streamed.
+     */
+    public interface DataReader<T> {
+
+        /**
+         * Reads the value of a field of the {@code data} object. The parser
+         * is positioned on the first token of the value and has to be left
+         * on its last token, e.g. by {@link JsonParser#skipChildren()}.
+         */
+        void readField(String name, JsonParser parser) throws IOException;
+
+        /**
+         * Returns the result once the whole response has been read.
+         */
+        T result();
+    }
+
+    /**
+     * Runs the query and returns its {@code data} node, retrying throttled
+     * and failed requests.
+     *
+     * @throws IOException
+     *             if the query failed permanently or still failed after the
+     *             configured number of attempts
+     */
+    public JsonNode query(final String query, final ObjectNode variables)
+            throws IOException, InterruptedException {
+        return this.query(query, variables, () -> {
+            final ObjectNode data = MAPPER.createObjectNode();
+            return new DataReader<JsonNode>() {
+                @Override
+                public void readField(final String name,
+                        final JsonParser parser) throws IOException {
+                    data.set(name, MAPPER.readTree(parser));
+                }
+
+                @Override
+                public JsonNode result() {
+                    return data;
+                }
+            };
+        });
+    }
+
+    /**
+     * Runs the query and streams the {@code data} object of the response
+     * through a reader, without building a tree of the whole response.
+     * Retries throttled and failed requests with a new reader each.
+     *
+     * @throws IOException
+     *             if the query failed permanently or still failed after the
+     *             configured number of attempts
+     */
+    public <T> T query(final String query, final ObjectNode variables,
+            final Supplier<DataReader<T>> readers)
+            throws IOException, InterruptedException {
+        final ObjectNode payload = MAPPER.createObjectNode();
+        payload.put("query", query);
+        payload.set("variables", variables);
+        final String requestBody = payload.toString();
+
+        for (int attempt = 1;; attempt++) {
+            this.sleep(this.paceDelay());
+            try {
+                return this.send(requestBody, readers.get());
+            } catch (final IOException e) {
+                if (attempt >= this.maxAttempts) {
+                    throw e;
+                }
+                if (e instanceof PermanentException) {
+                    throw e;
+                }
+                final Duration retryAfter = e instanceof final RetryableException retryable
+                        ? retryable.retryAfter
+                        : null;
+                final long delay = retryAfter != null
+                        ? retryAfter.toMillis()
+                                + this.jitter(this.initialBackoff)
+                        : this.backoff(attempt);
+                LOGGER.warn(
+                        "GraphQL request failed ({}), retry {} of {} in {} ms",
+                        e.getMessage(), attempt, this.maxAttempts - 1, delay);
+                this.sleep(delay);
+            }
+        }
+    }
+
+    private <T> T send(final String requestBody, final DataReader<T> reader)
+            throws IOException, InterruptedException {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(this.graphqlApiUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody));
+        if (this.githubToken != null && !this.githubToken.isEmpty()) {
+            builder.header("Authorization", "Bearer " + this.githubToken);
+        } else {
+            LOGGER.info(
+                    "Querying API without bearer token. You might run into rate limitations.");
+        }
+
+        final HttpResponse<InputStream> response = this.httpClient.send(
+                builder, HttpResponse.BodyHandlers.ofInputStream());
+        this.updateFromHeaders(response);
+
+        try (InputStream body = response.body()) {
+            final int status = response.statusCode();
+            if (status == 429 || status == 403 && this.isThrottled(response)) {
+                throw new RetryableException("GraphQL API quota exceeded!",
+                        this.retryAfter(response));
+            } else if (status == 403) {
+                throw new PermanentException(
+                        "GraphQL API access denied: " + text(body));
+            } else if (status / 100 == 5) {
+                throw new RetryableException(
+                        "Unexpected response status: " + status, null);
+            } else if (status / 100 != 2) {
+                throw new PermanentException("Unexpected response status: "
+                        + status + " body: " + text(body));
+            }
+
+            try (JsonParser parser = MAPPER.createParser(body)) {
+                return this.readResponse(parser, reader);
+            }
+        }
+    }
+
+    private static String text(final InputStream body) throws IOException {
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a GraphQL response token by token. Only the small
+     * {@code rateLimit} and {@code errors} values are read as trees, all
+     * other fields of {@code data} go straight to the reader.
+     */
+    <T> T readResponse(final JsonParser parser, final DataReader<T> reader)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new PermanentException("Unexpected GraphQL response");
+        }
+        JsonNode errors = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken value = parser.nextToken();
+            if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String name = parser.currentName();
+                    parser.nextToken();
+                    if ("rateLimit".equals(name)) {
+                        this.updateFromQuery(MAPPER.readTree(parser));
+                    } else {
+                        reader.readField(name, parser);
+                    }
+                }
+            } else if ("errors".equals(field)) {
+                errors = MAPPER.readTree(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (errors != null) {
+            for (final JsonNode error : errors) {
+                if ("RATE_LIMITED".equals(error.path("type").asText())) {
+                    throw new RetryableException("GraphQL API quota exceeded!",
+                            this.untilReset());
+                }
+            }
+            throw new PermanentException("GraphQL errors: " + errors);
+        }
+        return reader.result();
+    }
+
+    private boolean isThrottled(final HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After").isPresent()
+                || "0".equals(response.headers()
+                        .firstValue("X-RateLimit-Remaining").orElse(null));
+    }
+
+    private Duration retryAfter(final HttpResponse<?> response) {
+        final Optional<String> retryAfter = response.headers()
+                .firstValue("Retry-After");
+        if (retryAfter.isPresent()) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.get()));
+            } catch (final NumberFormatException e) {
+                // HTTP dates are not used by GitHub, fall back to the reset
+            }
+        }
+        return this.untilReset();
+    }
+
+    private synchronized Duration untilReset() {
+        if (this.resetAt == null) {
+            return null;
+        }
+        final Duration duration = Duration.between(Instant.now(),
+                this.resetAt);
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+
+    private synchronized void updateFromHeaders(
+            final HttpResponse<?> response) {
+        final Optional<String> remainingHeader = response.headers()
+                .firstValue("X-RateLimit-Remaining");
+        final Optional<String> resetHeader = response.headers()
+                .firstValue("X-RateLimit-Reset");
+        try {
+            if (remainingHeader.isPresent()) {
+                this.remaining = Integer.parseInt(remainingHeader.get());
+            }
+            if (resetHeader.isPresent()) {
+                this.resetAt = Instant
+                        .ofEpochSecond(Long.parseLong(resetHeader.get()));
+            }
+        } catch (final NumberFormatException e) {
+            LOGGER.debug("Ignoring malformed rate limit headers", e);
+        }
+    }
+
+    private synchronized void updateFromQuery(final JsonNode rateLimit) {
+        if (rateLimit == null || !rateLimit.isObject()) {
+            return;
+        }
+        if (rateLimit.has("remaining")) {
+            this.remaining = rateLimit.path("remaining").asInt();
+        }
+        try {
+            if (rateLimit.hasNonNull("resetAt")) {
+                this.resetAt = Instant
+                        .parse(rateLimit.path("resetAt").asText());
+            }
+        } catch (final DateTimeParseException e) {
+            LOGGER.debug("Ignoring malformed rateLimit.resetAt", e);
+        }
+        LOGGER.debug("GraphQL query cost {}, {} points left until {}",
+                rateLimit.path("cost").asInt(), this.remaining, this.resetAt);
+    }
+
+    /**
+     * Returns how long to wait before the next request in milliseconds and
+     * books one point of the budget for it, so parallel callers pace too.
+     */
+    synchronized long paceDelay() {
+        if (this.remaining < 0 || this.resetAt == null) {
+            return 0;
+        }
+        final long untilReset = Duration.between(Instant.now(), this.resetAt)
+                .toMillis();
+        if (untilReset <= 0) {
+            // the budget has been reset, the next response tells the new one
+            this.remaining = -1;
+            return 0;
+        }
+        final int left = this.remaining;
+        if (left > 0) {
+            this.remaining--;
+        }
+        if (left <= this.reserve) {
+            LOGGER.warn("GitHub rate limit almost used up, waiting {} s",
+                    untilReset / 1000);
+            return untilReset;
+        }
+        if (left < this.paceBelow) {
+            return untilReset / (left - this.reserve);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the exponential backoff for the given attempt with equal
+     * jitter, i.e. a random value between half and the full delay.
+     */
+    long backoff(final int attempt) {
+        final long delay = Math.min(
+                this.initialBackoff << Math.min(attempt - 1, 30),
+                this.maxBackoff);
+        return delay / 2 + this.jitter(delay / 2);
+    }
+
+    private long jitter(final long bound) {
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    /**
+     * Returns the last known number of remaining rate limit points, or
+     * {@code -1} if unknown.
+     */
+    public synchronized int getRemaining() {
+        return this.remaining;
+    }
+
+    void sleep(final long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+}
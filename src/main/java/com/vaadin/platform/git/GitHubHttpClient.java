@@ -0,0 +1,130 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Application wide HTTP client for all GitHub API calls. Sharing one
+ * {@link HttpClient} lets requests reuse connections and TLS sessions instead
+ * of paying a new handshake per call. The number of concurrent requests is
+ * capped globally to stay within GitHub's rate limits, no matter how many
+ * crawls run in parallel.
+ * <p>
+ * Latencies are recorded by the {@code releases.github.requests} timer,
+ * tagged with the outcome. The requests waiting for the cap, the requests in
+ * flight and the executor are exposed as gauges.
+ */
+@Component
+public class GitHubHttpClient {
+
+    @Value("${github.http.version}")
+    private HttpClient.Version httpVersion;
+    // timeouts in seconds
+    @Value("${github.http.connectTimeout}")
+    private long connectTimeout;
+    @Value("${github.http.requestTimeout}")
+    private long requestTimeout;
+    @Value("${github.http.executorThreads}")
+    private int executorThreads;
+    @Value("${github.http.maxConcurrentRequests}")
+    private int maxConcurrentRequests;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private HttpClient client;
+    private ThreadPoolExecutor executor;
+    private Semaphore permits;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @PostConstruct
+    public void init() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.executorThreads,
+                this.executorThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    final Thread thread = new Thread(r,
+                            "github-http-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.permits = new Semaphore(this.maxConcurrentRequests, true);
+        this.client = HttpClient.newBuilder().version(this.httpVersion)
+                .connectTimeout(Duration.ofSeconds(this.connectTimeout))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(this.executor).build();
+
+        Gauge.builder("releases.github.requests.waiting", this.permits,
+                Semaphore::getQueueLength)
+                .description("Requests waiting for the concurrency cap")
+                .register(this.meterRegistry);
+        Gauge.builder("releases.github.requests.active", this.inFlight,
+                AtomicInteger::get).description("Requests in flight")
+                .register(this.meterRegistry);
+        new ExecutorServiceMetrics(this.executor, "github-http", Tags.empty())
+                .bindTo(this.meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Applies the configured request timeout, sends the request and records
+     * its latency. Waits while the maximum number of concurrent requests is
+     * reached. Responses with an error status are returned as they are.
+     */
+    public <T> HttpResponse<T> send(final HttpRequest.Builder request,
+            final HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        request.timeout(Duration.ofSeconds(this.requestTimeout));
+        this.permits.acquire();
+        try {
+            return this.sendAndRecord(request, bodyHandler);
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    private <T> HttpResponse<T> sendAndRecord(
+            final HttpRequest.Builder request,
+            final HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        final Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "failure";
+        this.inFlight.incrementAndGet();
+        try {
+            final HttpResponse<T> response = this.client.send(request.build(),
+                    bodyHandler);
+            outcome = response.statusCode() / 100 == 2 ? "success" : "error";
+            return response;
+        } finally {
+            this.inFlight.decrementAndGet();
+            sample.stop(this.meterRegistry.timer("releases.github.requests",
+                    "outcome", outcome));
+        }
+    }
+
+}
@@ -3,60 +3,156 @@ package com.vaadin.platform.git;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class GitHubService {
     private static final Logger LOGGER = LogManager
             .getLogger(GitHubService.class);
 
+    public static final String FETCH_FAILED = "Failed to fetch release notes!";
+
     @Value("${github.release.api.url}")
     private String githubReleaseApiUrl;
 
     @Value("${github.personal.token}")
     private String githubPersonalToken;
 
+    @Value("${github.release.cache.maxSize}")
+    private long cacheMaxSize;
+    @Value("${github.release.cache.ttl}")
+    private long cacheTtl;
+    @Value("${github.release.cache.failureTtl}")
+    private long cacheFailureTtl;
+
+    @Autowired
+    private GitHubHttpClient httpClient;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    @Cacheable
-    public String fetchReleaseNotes(final String versionName) {
-        String releaseNotes = "";
-        final String url = this.githubReleaseApiUrl.formatted(versionName);
+    private record ReleaseNotes(String body, boolean failed) {
+    }
+
+    private Cache<ReleaseTag, ReleaseNotes> releaseNotesCache;
+
+    @PostConstruct
+    public void initCache() {
+        this.releaseNotesCache = Caffeine.newBuilder()
+                .maximumSize(this.cacheMaxSize)
+                .expireAfter(new ReleaseNotesExpiry()).recordStats().build();
+        CaffeineCacheMetrics.monitor(this.meterRegistry,
+                this.releaseNotesCache, "releaseNotes");
+    }
+
+    /**
+     * Keeps fetched notes for the configured TTL, but failed fetches only
+     * briefly so they get retried soon.
+     */
+    private class ReleaseNotesExpiry implements Expiry<ReleaseTag, ReleaseNotes> {
+
+        @Override
+        public long expireAfterCreate(final ReleaseTag tag,
+                final ReleaseNotes notes, final long currentTime) {
+            return TimeUnit.SECONDS.toNanos(notes.failed()
+                    ? GitHubService.this.cacheFailureTtl
+                    : GitHubService.this.cacheTtl);
+        }
+
+        @Override
+        public long expireAfterUpdate(final ReleaseTag tag,
+                final ReleaseNotes notes, final long currentTime,
+                final long currentDuration) {
+            return this.expireAfterCreate(tag, notes, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final ReleaseTag tag,
+                final ReleaseNotes notes, final long currentTime,
+                final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Returns the release notes of the given version of a repository. Notes
+     * are served from a bounded in-memory cache; concurrent requests for the
+     * same version share one GitHub call.
+     */
+    public String fetchReleaseNotes(final GitRepository repository,
+            final String versionName) {
+        return this.releaseNotesCache
+                .get(new ReleaseTag(repository, versionName),
+                        this::loadReleaseNotes)
+                .body();
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of the release notes cache.
+     */
+    public CacheStats getReleaseNotesCacheStats() {
+        return this.releaseNotesCache.stats();
+    }
+
+    private ReleaseNotes loadReleaseNotes(final ReleaseTag tag) {
+        final Timer.Sample sample = Timer.start();
+        final ReleaseNotes notes = this.requestReleaseNotes(tag);
+        sample.stop(this.meterRegistry.timer("releases.notes.fetch",
+                "repository", tag.repository().toString(), "outcome",
+                notes.failed() ? "failure" : "success"));
+        return notes;
+    }
+
+    private ReleaseNotes requestReleaseNotes(final ReleaseTag tag) {
+        final String url = this.githubReleaseApiUrl.formatted(
+                tag.repository().owner(), tag.repository().name(),
+                tag.version());
 
         try {
-            final HttpRequest request = HttpRequest.newBuilder()
+            final HttpRequest.Builder request = HttpRequest.newBuilder()
                     .header("Accept", "application/vnd.github+json")
                     .header("Authorization",
                             "Bearer " + this.githubPersonalToken)
                     .header("X-GitHub-Api-Version", "2022-11-28")
-                    .uri(new URI(url)).build();
+                    .uri(new URI(url));
 
-            final HttpClient httpClient = HttpClient.newHttpClient();
-            final HttpResponse<String> response = httpClient.send(request,
+            final HttpResponse<String> response = this.httpClient.send(request,
                     HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() == 200) {
                 final JsonNode parent = OBJECT_MAPPER.readTree(response.body());
-                releaseNotes = parent.path("body").asText();
-            } else {
-                releaseNotes = "Failed to fetch release notes!";
-                LOGGER.fatal(releaseNotes, response.body());
+                return new ReleaseNotes(parent.path("body").asText(), false);
             }
-        } catch (IOException | InterruptedException | URISyntaxException e) {
-            releaseNotes = "Failed to fetch release notes!";
-            LOGGER.fatal(releaseNotes, e);
+            // failures are cached and retried later, so they are no errors
+            LOGGER.warn(FETCH_FAILED + " {} answered {}: {}", url,
+                    response.statusCode(), response.body());
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.warn(FETCH_FAILED + " {}", url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn(FETCH_FAILED + " {}", url, e);
         }
-        return releaseNotes;
+        return new ReleaseNotes(FETCH_FAILED, true);
     }
 
 }
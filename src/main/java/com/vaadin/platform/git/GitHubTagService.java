@@ -2,28 +2,44 @@ package com.vaadin.platform.git;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link TagSource} reading the tags from the GitHub GraphQL API, with a file
+ * cache in {@code tagservice.tagcache.folder}. Used unless
+ * {@code tagservice.source} selects another source.
+ */
 @Service
-public class GitHubTagService {
+@ConditionalOnProperty(name = "tagservice.source", havingValue = "github",
+        matchIfMissing = true)
+public class GitHubTagService implements TagSource {
 
     @Value("${tagservice.tagcache.enabled}")
     private boolean tagCacheEnabled;
@@ -31,20 +47,28 @@ public class GitHubTagService {
     private long tagCacheDuration;
     @Value("${tagservice.tagcache.folder}")
     private String tagCacheFolder;
-    @Value("${github.personal.token}")
-    private String githubToken;
-
-    private Instant lastCachedTime = Instant.now();
+    // "binary" or "json"; JSON files are still read if no binary file exists
+    @Value("${tagservice.tagcache.format}")
+    private String tagCacheFormat;
+    @Autowired
+    private GitHubGraphQlClient graphQlClient;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // write times of the cache files per "owner/name", read from the file
+    // modification time on first access
+    private final Map<String, Instant> lastCachedTimes = new ConcurrentHashMap<>();
+    // running crawls per "owner/name", shared by concurrent callers
+    private final Map<String, CompletableFuture<List<VersionDetails>>> inFlight = new ConcurrentHashMap<>();
 
     private static final Logger LOGGER = LogManager
             .getLogger(GitHubTagService.class);
-    private static final String GITHUB_API_URL = "https://api.github.com/graphql";
-
-    private static final HttpClient client = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(20)).build();
+    private static final ObjectMapper CACHE_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
 
     // GraphQL query with pagination: pageInfo and cursor argument
     private static final String QUERY = "query ListAllTagsWithCreator($owner: String!, $name: String!, $pageSize: Int!, $after: String) {"
+            + " rateLimit { cost remaining resetAt }"
             + " repository(owner: $owner, name: $name) {"
             + "   refs(refPrefix: \"refs/tags/\", first: $pageSize, after: $after, orderBy: { field: TAG_COMMIT_DATE, direction: DESC }) {"
             + "     pageInfo { hasNextPage endCursor }" + "     nodes {"
@@ -55,7 +79,8 @@ public class GitHubTagService {
 
     /**
      * Returns a list of all tags together with the committer and commit date
-     * for a given Github repository
+     * for a given Github repository. Served from the tag cache while it is
+     * fresh, otherwise only the tags newer than the cached ones are fetched.
      *
      * @param repoOwner
      *            The user or organization that owns a repository. For example,
@@ -63,132 +88,300 @@ public class GitHubTagService {
      * @param repoName
      *            The repository inside an organization. For example,
      *            "platform". Must match the spelling on Github.
-     * @param An
-     *            optional (can be null!) Github to be used when fetching large
-     *            amounts of data
      */
+    @Override
     public List<VersionDetails> fetchAllTags(String repoOwner, String repoName)
             throws IOException, InterruptedException {
 
-        if (tagCacheEnabled && lastCachedTime.plusSeconds(tagCacheDuration)
-                .isAfter(Instant.now())) {
+        String key = repoOwner + "/" + repoName;
+        if (isCacheFresh(repoOwner, repoName)) {
             // try fetching data from cache
             var cachedData = fetchTagsFromCache(repoOwner, repoName);
             if (cachedData != null) {
+                meterRegistry.counter("releases.tags.cache.requests",
+                        "repository", key, "result", "hit").increment();
                 return cachedData;
             }
         }
 
+        meterRegistry.counter("releases.tags.cache.requests", "repository",
+                key, "result", "miss").increment();
+        return refreshTags(repoOwner, repoName, false);
+    }
+
+    /**
+     * Returns the cached tags of the given repository regardless of their
+     * age, or {@code null} if nothing is cached. Used to serve data right
+     * after startup while a refresh runs in the background.
+     */
+    @Override
+    public List<VersionDetails> fetchCachedTags(String repoOwner,
+            String repoName) {
+        return tagCacheEnabled ? fetchTagsFromCache(repoOwner, repoName)
+                : null;
+    }
+
+    /**
+     * Returns whether the tag cache of the given repository is younger than
+     * {@code tagservice.tagcache.maxAge}. The age of cache files written by
+     * an earlier run is taken from their modification time.
+     */
+    @Override
+    public boolean isCacheFresh(String repoOwner, String repoName) {
+        Instant lastCachedTime = lastCachedTime(repoOwner, repoName);
+        return tagCacheEnabled && lastCachedTime != null && lastCachedTime
+                .plusSeconds(tagCacheDuration).isAfter(Instant.now());
+    }
+
+    private Instant lastCachedTime(String repoOwner, String repoName) {
+        String key = repoOwner + "/" + repoName;
+        Instant lastCachedTime = lastCachedTimes.get(key);
+        if (lastCachedTime != null) {
+            return lastCachedTime;
+        }
+        for (String extension : isBinaryCache() ? List.of("bin", "json")
+                : List.of("json")) {
+            Path file = cacheFile(repoOwner, repoName, extension).toPath();
+            try {
+                lastCachedTime = Files.getLastModifiedTime(file).toInstant();
+                lastCachedTimes.putIfAbsent(key, lastCachedTime);
+                return lastCachedTime;
+            } catch (IOException e) {
+                // no such cache file
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Crawls the tags of the given repository from the GraphQL API regardless
+     * of the cache state and stores the result in the cache. Used by
+     * {@link TagRefreshScheduler} to reload the data before the cache expires.
+     * <p>
+     * An incremental sync reads pages only until it reaches a tag that is
+     * already cached and merges the new tags into the cached list. As the tags
+     * are ordered by commit date, deleted or moved tags as well as new tags on
+     * old commits are only picked up by a full sync.
+     * <p>
+     * Completed pages are checkpointed in the cache folder while crawling. If
+     * a crawl fails or the application stops halfway, the next crawl
+     * continues from the last completed page instead of the first one.
+     * <p>
+     * Only one crawl per repository runs at a time. Callers arriving while a
+     * crawl is running wait for it and share its result, whether it is a full
+     * or an incremental one.
+     *
+     * @param fullSync
+     *            {@code true} to walk all pages and replace the cached list,
+     *            {@code false} to only fetch tags newer than the cached ones.
+     *            Falls back to a full sync when nothing is cached yet.
+     */
+    @Override
+    public List<VersionDetails> refreshTags(String repoOwner, String repoName,
+            boolean fullSync) throws IOException, InterruptedException {
+        String key = repoOwner + "/" + repoName;
+        CompletableFuture<List<VersionDetails>> crawl = new CompletableFuture<>();
+        CompletableFuture<List<VersionDetails>> running = inFlight
+                .putIfAbsent(key, crawl);
+        if (running != null) {
+            LOGGER.debug("Joining running crawl of {}", key);
+            return await(running);
+        }
+        Timer.Sample sample = Timer.start();
+        String outcome = "failure";
+        try {
+            List<VersionDetails> result = crawlTags(repoOwner, repoName,
+                    fullSync);
+            // joining callers get their own copy, the caller may sort result
+            crawl.complete(List.copyOf(result));
+            outcome = "success";
+            return result;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            crawl.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, crawl);
+            sample.stop(meterRegistry.timer("releases.tags.crawl",
+                    "repository", key, "source", "github", "sync",
+                    fullSync ? "full" : "incremental", "outcome", outcome));
+        }
+    }
+
+    private static List<VersionDetails> await(
+            CompletableFuture<List<VersionDetails>> crawl)
+            throws IOException, InterruptedException {
+        try {
+            return new ArrayList<>(crawl.get());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Crawl failed", cause);
+        }
+    }
+
+    private List<VersionDetails> crawlTags(String repoOwner, String repoName,
+            boolean fullSync) throws IOException, InterruptedException {
+        List<VersionDetails> cached = fullSync ? null
+                : fetchTagsFromCache(repoOwner, repoName);
+        Set<String> knownTags = new HashSet<>();
+        if (cached != null) {
+            cached.forEach(details -> knownTags.add(details.getVersion()));
+        }
+
         int pageSize = 100;
         String cursor = null;
+        boolean complete = false;
 
         List<VersionDetails> result = new ArrayList<>();
 
-        do {
-            JsonNode data = fetchTags(repoOwner, repoName, pageSize, cursor,
-                    githubToken);
-            JsonNode refs = data.path("repository").path("refs");
-
-            // Process each tag
-            for (JsonNode node : refs.path("nodes")) {
-                String tagName = node.path("name").asText();
-                JsonNode target = node.path("target");
-                String type = target.path("__typename").asText();
-                String createdBy = null;
-                String createdAt = null;
-
-                if ("Tag".equals(type)) {
-                    JsonNode tagger = target.path("tagger");
-                    createdBy = tagger.path("user").path("login").asText(null);
-                    if (createdBy == null)
-                        createdBy = tagger.path("name").asText();
-                    createdAt = tagger.path("date").asText();
-                } else if ("Commit".equals(type)) {
-                    JsonNode author = target.path("author");
-                    createdBy = author.path("user").path("login").asText(null);
-                    if (createdBy == null)
-                        createdBy = author.path("name").asText();
-                    createdAt = target.path("committedDate").asText();
+        // continue an interrupted crawl from its last completed page
+        CrawlCheckpoint checkpoint = tagCacheEnabled
+                ? new CrawlCheckpoint(
+                        cacheFile(repoOwner, repoName, "checkpoint").toPath(),
+                        tagCacheDuration)
+                : null;
+        CrawlCheckpoint.Progress progress = checkpoint != null
+                ? checkpoint.load()
+                : null;
+        if (progress != null) {
+            for (VersionDetails details : progress.tags()) {
+                if (knownTags.contains(details.getVersion())) {
+                    complete = true;
+                    break;
+                }
+                result.add(details);
+            }
+            cursor = progress.cursor();
+            complete |= cursor == null;
+        } else if (checkpoint != null && !startCheckpoint(checkpoint)) {
+            checkpoint = null;
+        }
+
+        crawl: while (!complete) {
+            TagPageReader.Page tagPage = fetchTags(repoOwner, repoName,
+                    pageSize, cursor);
+
+            List<VersionDetails> page = tagPage.tags();
+            for (int i = 0; i < page.size(); i++) {
+                if (knownTags.contains(page.get(i).getVersion())) {
+                    // everything from here on is already cached
+                    result.addAll(page.subList(0, i));
+                    break crawl;
                 }
-                result.add(new VersionDetails(tagName,
-                        OffsetDateTime.parse(createdAt), createdBy));
             }
+            result.addAll(page);
 
             // Handle pagination
-            JsonNode pageInfo = refs.path("pageInfo");
-            boolean hasNext = pageInfo.path("hasNextPage").asBoolean();
-            cursor = hasNext ? pageInfo.path("endCursor").asText() : null;
-        } while (cursor != null);
+            cursor = tagPage.endCursor();
+            complete = cursor == null;
+
+            if (checkpoint != null
+                    && !appendCheckpoint(checkpoint, cursor, page)) {
+                checkpoint = null;
+            }
+        }
 
+        if (cached != null) {
+            LOGGER.info("Incremental sync of {}/{} found {} new tags",
+                    repoOwner, repoName, result.size());
+            result.addAll(cached);
+        }
         if (tagCacheEnabled) {
             saveToCache(repoOwner, repoName, result);
         }
+        if (checkpoint != null) {
+            checkpoint.delete();
+        }
         return result;
     }
 
-    private static JsonNode fetchTags(String owner, String name, int pageSize,
-            String after, String githubToken)
+    private static boolean startCheckpoint(CrawlCheckpoint checkpoint) {
+        try {
+            checkpoint.start();
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write crawl checkpoint, continuing without",
+                    e);
+            return false;
+        }
+    }
+
+    private static boolean appendCheckpoint(CrawlCheckpoint checkpoint,
+            String cursor, List<VersionDetails> page) {
+        try {
+            checkpoint.append(cursor, page);
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write crawl checkpoint, continuing without",
+                    e);
+            return false;
+        }
+    }
+
+    private TagPageReader.Page fetchTags(String owner, String name,
+            int pageSize, String after)
             throws IOException, InterruptedException {
         // Build GraphQL variables
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        ObjectNode variables = mapper.createObjectNode().put("owner", owner)
-                .put("name", name).put("pageSize", pageSize);
+        ObjectNode variables = CACHE_MAPPER.createObjectNode()
+                .put("owner", owner).put("name", name)
+                .put("pageSize", pageSize);
         if (after != null)
             variables.put("after", after);
 
-        ObjectNode payload = mapper.createObjectNode();
-        payload.put("query", QUERY);
-        payload.set("variables", variables);
-        String requestBody = payload.toString();
-
-        var builder = HttpRequest.newBuilder().uri(URI.create(GITHUB_API_URL))
-                .timeout(Duration.ofSeconds(60))
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody));
-
-        if (githubToken != null && !githubToken.isEmpty()) {
-            builder.header("Authorization", "Bearer " + githubToken);
-        } else {
-            LOGGER.info(
-                    "Querying API without bearer token. You might run into rate limitations.");
-        }
-
-        HttpRequest request = builder.build();
-
-        HttpResponse<String> response = client.send(request,
-                HttpResponse.BodyHandlers.ofString());
-        if (response.statusCode() == 403 || response.statusCode() == 429) {
-            throw new IOException("GraphQL API quota exceeded!");
-        } else if (response.statusCode() / 100 != 2) {
-            throw new IOException("Unexpected response status: "
-                    + response.statusCode() + " body: " + response.body());
-        }
-
-        JsonNode root = mapper.readTree(response.body());
-        if (root.has("errors")) {
-            throw new IOException(
-                    "GraphQL errors: " + root.path("errors").toString());
+        // throttling and retries are handled by the client, so a failing
+        // page is fetched again from the same cursor; the response is
+        // streamed into VersionDetails without building a JSON tree
+        Timer.Sample sample = Timer.start();
+        String outcome = "failure";
+        try {
+            TagPageReader.Page page = graphQlClient.query(QUERY, variables,
+                    () -> new TagPageReader(pageSize));
+            outcome = "success";
+            return page;
+        } finally {
+            sample.stop(meterRegistry.timer("releases.graphql.page",
+                    "repository", owner + "/" + name, "outcome", outcome));
         }
-        return root.path("data");
     }
 
     private List<VersionDetails> fetchTagsFromCache(String repoOwner,
             String repoName) {
+        if (isBinaryCache()) {
+            File binaryFile = cacheFile(repoOwner, repoName, "bin");
+            if (binaryFile.exists()) {
+                try {
+                    Timer.Sample sample = Timer.start();
+                    List<VersionDetails> ret = BinaryTagCache
+                            .read(binaryFile.toPath());
+                    sample.stop(meterRegistry.timer("releases.tags.cache.load",
+                            "format", "binary"));
+                    LOGGER.info("Using cached data from {}",
+                            binaryFile.getAbsolutePath());
+                    return ret;
+                } catch (IOException e) {
+                    LOGGER.warn(
+                            "Problems when trying to read binary tag cache file. Trying JSON cache instead.",
+                            e);
+                }
+            }
+        }
         try {
-            File cacheFile = new File(tagCacheFolder,
-                    "github-tags-" + repoOwner + "_" + repoName + ".json");
+            File cacheFile = cacheFile(repoOwner, repoName, "json");
 
             if (!cacheFile.exists()) {
                 return null;
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-
-            List<VersionDetails> ret = mapper.readValue(cacheFile,
-                    mapper.getTypeFactory().constructCollectionType(List.class,
-                            VersionDetails.class));
+            Timer.Sample sample = Timer.start();
+            List<VersionDetails> ret = CACHE_MAPPER.readValue(cacheFile,
+                    CACHE_MAPPER.getTypeFactory().constructCollectionType(
+                            List.class, VersionDetails.class));
+            sample.stop(meterRegistry.timer("releases.tags.cache.load",
+                    "format", "json"));
             LOGGER.info("Using cached data from {}",
                     cacheFile.getAbsolutePath());
             return ret;
@@ -203,14 +396,18 @@ public class GitHubTagService {
     private void saveToCache(String repoOwner, String repoName,
             List<VersionDetails> details) {
         try {
-            File cacheFile = new File(tagCacheFolder,
-                    "github-tags-" + repoOwner + "_" + repoName + ".json");
-
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModules(new JavaTimeModule());
-            mapper.writeValue(cacheFile, details);
+            File cacheFile;
+            if (isBinaryCache()) {
+                cacheFile = cacheFile(repoOwner, repoName, "bin");
+                writeAtomically(cacheFile,
+                        file -> BinaryTagCache.write(file, details));
+            } else {
+                cacheFile = cacheFile(repoOwner, repoName, "json");
+                writeAtomically(cacheFile,
+                        file -> CACHE_MAPPER.writeValue(file.toFile(), details));
+            }
             // Update the last cached time
-            lastCachedTime = Instant.now();
+            lastCachedTimes.put(repoOwner + "/" + repoName, Instant.now());
 
             LOGGER.info("Using cached data from {}",
                     cacheFile.getAbsolutePath());
@@ -219,4 +416,42 @@ public class GitHubTagService {
         }
     }
 
+    private interface CacheWriter {
+        void write(Path file) throws IOException;
+    }
+
+    /**
+     * Writes to a temporary file next to the target and renames it, so
+     * readers see either the old or the new file but never a partial one.
+     */
+    private static void writeAtomically(File target, CacheWriter writer)
+            throws IOException {
+        Path targetPath = target.toPath();
+        Path temp = Files.createTempFile(targetPath.getParent(),
+                target.getName(), ".tmp");
+        try {
+            writer.write(temp);
+            try {
+                Files.move(temp, targetPath,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, targetPath,
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private File cacheFile(String repoOwner, String repoName,
+            String extension) {
+        return new File(tagCacheFolder, "github-tags-" + repoOwner + "_"
+                + repoName + "." + extension);
+    }
+
+    private boolean isBinaryCache() {
+        return "binary".equals(tagCacheFormat);
+    }
+
 }
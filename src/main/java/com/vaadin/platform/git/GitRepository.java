@@ -0,0 +1,45 @@
+package com.vaadin.platform.git;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A GitHub repository whose releases are tracked, for example
+ * {@code vaadin/platform}.
+ *
+ * @param owner
+ *            the user or organization that owns the repository
+ * @param name
+ *            the repository inside the organization
+ */
+public record GitRepository(String owner, String name) {
+
+    /**
+     * Parses a repository in {@code owner/name} notation.
+     */
+    public static GitRepository parse(final String repository) {
+        final String[] parts = repository.trim().split("/");
+        if (parts.length != 2 || parts[0].isBlank() || parts[1].isBlank()) {
+            throw new IllegalArgumentException(
+                    "Expected a repository as owner/name but got "
+                            + repository);
+        }
+        return new GitRepository(parts[0].trim(), parts[1].trim());
+    }
+
+    /**
+     * Parses a comma separated list of repositories in {@code owner/name}
+     * notation.
+     */
+    public static List<GitRepository> parseList(final String repositories) {
+        return Arrays.stream(repositories.split(","))
+                .filter(repository -> !repository.isBlank())
+                .map(GitRepository::parse).distinct().toList();
+    }
+
+    @Override
+    public String toString() {
+        return this.owner + "/" + this.name;
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.vaadin.platform.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevObject;
+import org.eclipse.jgit.revwalk.RevTag;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.transport.FetchResult;
+import org.eclipse.jgit.transport.TagOpt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link TagSource} reading the tags from local Git repositories, enabled
+ * with {@code tagservice.source = jgit}. Each repository is kept in
+ * {@code tagservice.jgit.folder/owner/name}, which may be an existing clone
+ * or mirror; a missing one is created as a bare repository that only fetches
+ * the tags and the commits they point to.
+ * <p>
+ * A refresh is a regular incremental {@code git fetch} of
+ * {@code refs/tags/*}, so only new objects are transferred and no API quota
+ * is used. Tags are read from the ref database, packed refs included, and
+ * dated by the tagger of annotated tags or the committer of the tagged
+ * commit.
+ */
+@Service
+@ConditionalOnProperty(name = "tagservice.source", havingValue = "jgit")
+public class JGitTagSource implements TagSource {
+    private static final Logger LOGGER = LogManager
+            .getLogger(JGitTagSource.class);
+
+    private static final String REMOTE = "origin";
+    private static final String TAGS_REFSPEC = "+refs/tags/*:refs/tags/*";
+
+    @Value("${tagservice.jgit.folder}")
+    private String folder;
+    // remote URL of new repositories, formatted with owner and name
+    @Value("${tagservice.jgit.remoteUrl}")
+    private String remoteUrl;
+    @Value("${tagservice.tagcache.maxAge}")
+    private long maxAge;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // times of the last successful fetch per "owner/name"
+    private final Map<String, Instant> lastFetches = new ConcurrentHashMap<>();
+    // one fetch per repository at a time, JGit does not lock the ref updates
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public List<VersionDetails> fetchAllTags(final String repoOwner,
+            final String repoName) throws IOException, InterruptedException {
+        if (this.isCacheFresh(repoOwner, repoName)) {
+            final List<VersionDetails> tags = this.fetchCachedTags(repoOwner,
+                    repoName);
+            if (tags != null) {
+                return tags;
+            }
+        }
+        return this.refreshTags(repoOwner, repoName, false);
+    }
+
+    @Override
+    public List<VersionDetails> fetchCachedTags(final String repoOwner,
+            final String repoName) {
+        final File directory = this.directory(repoOwner, repoName);
+        if (!directory.exists()) {
+            return null;
+        }
+        try (Git git = Git.open(directory)) {
+            final List<VersionDetails> tags = readTags(git.getRepository());
+            return tags.isEmpty() ? null : tags;
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to read tags from {}", directory, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the last fetch is younger than
+     * {@code tagservice.tagcache.maxAge}. Fetches of an earlier run are
+     * dated by the modification time of {@code FETCH_HEAD}.
+     */
+    @Override
+    public boolean isCacheFresh(final String repoOwner,
+            final String repoName) {
+        final Instant lastFetch = this.lastFetches.computeIfAbsent(
+                this.key(repoOwner, repoName),
+                key -> this.fetchHeadTime(repoOwner, repoName));
+        return lastFetch != null
+                && lastFetch.plusSeconds(this.maxAge).isAfter(Instant.now());
+    }
+
+    private Instant fetchHeadTime(final String repoOwner,
+            final String repoName) {
+        final File directory = this.directory(repoOwner, repoName);
+        for (final File fetchHead : new File[] {
+                new File(directory, Constants.FETCH_HEAD),
+                new File(new File(directory, Constants.DOT_GIT),
+                        Constants.FETCH_HEAD) }) {
+            if (fetchHead.exists()) {
+                return Instant.ofEpochMilli(fetchHead.lastModified());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<VersionDetails> refreshTags(final String repoOwner,
+            final String repoName, final boolean fullSync)
+            throws IOException, InterruptedException {
+        final String key = this.key(repoOwner, repoName);
+        synchronized (this.locks.computeIfAbsent(key, k -> new Object())) {
+            final Timer.Sample sample = Timer.start();
+            String outcome = "failure";
+            try (Git git = this.openOrCreate(repoOwner, repoName)) {
+                final FetchResult result = git.fetch().setRemote(REMOTE)
+                        .setRefSpecs(TAGS_REFSPEC).setTagOpt(TagOpt.NO_TAGS)
+                        .setRemoveDeletedRefs(fullSync).call();
+                this.lastFetches.put(key, Instant.now());
+                LOGGER.info("Fetched {} with {} updated tags", key,
+                        result.getTrackingRefUpdates().size());
+                final List<VersionDetails> tags = readTags(
+                        git.getRepository());
+                outcome = "success";
+                return tags;
+            } catch (final GitAPIException e) {
+                throw new IOException("Failed to fetch tags of " + key, e);
+            } finally {
+                sample.stop(this.meterRegistry.timer("releases.tags.crawl",
+                        "repository", key, "source", "jgit", "sync",
+                        fullSync ? "full" : "incremental", "outcome",
+                        outcome));
+            }
+        }
+    }
+
+    private Git openOrCreate(final String repoOwner, final String repoName)
+            throws IOException, GitAPIException {
+        final File directory = this.directory(repoOwner, repoName);
+        if (directory.exists()) {
+            return Git.open(directory);
+        }
+        final Git git = Git.init().setBare(true).setDirectory(directory)
+                .call();
+        final StoredConfig config = git.getRepository().getConfig();
+        config.setString("remote", REMOTE, "url",
+                this.remoteUrl.formatted(repoOwner, repoName));
+        config.setString("remote", REMOTE, "fetch", TAGS_REFSPEC);
+        config.save();
+        LOGGER.info("Created tag mirror of {}/{} in {}", repoOwner, repoName,
+                directory);
+        return git;
+    }
+
+    /**
+     * Reads all tags of the repository with one {@link RevWalk}, so commits
+     * tagged more than once are parsed once.
+     */
+    static List<VersionDetails> readTags(final Repository repository)
+            throws IOException {
+        final List<Ref> refs = repository.getRefDatabase()
+                .getRefsByPrefix(Constants.R_TAGS);
+        final List<VersionDetails> result = new ArrayList<>(refs.size());
+        try (RevWalk walk = new RevWalk(repository)) {
+            for (final Ref ref : refs) {
+                // like the GraphQL query: tagger of annotated tags, commit
+                // date and author of lightweight ones
+                PersonIdent date = null;
+                PersonIdent creator = null;
+                RevObject object = walk.parseAny(ref.getObjectId());
+                if (object instanceof final RevTag tag) {
+                    date = creator = tag.getTaggerIdent();
+                    object = walk.peel(tag);
+                }
+                if (date == null && object instanceof final RevCommit commit) {
+                    date = commit.getCommitterIdent();
+                    creator = commit.getAuthorIdent();
+                }
+                if (date == null) {
+                    // tag of a tree or blob, nothing to date it by
+                    continue;
+                }
+                result.add(new VersionDetails(
+                        Repository.shortenRefName(ref.getName()),
+                        OffsetDateTime.ofInstant(date.getWhenAsInstant(),
+                                ZoneOffset.ofTotalSeconds(
+                                        date.getTimeZoneOffset() * 60)),
+                        creator.getName()));
+            }
+        }
+        return result;
+    }
+
+    private File directory(final String repoOwner, final String repoName) {
+        return new File(new File(this.folder, repoOwner), repoName);
+    }
+
+    private String key(final String repoOwner, final String repoName) {
+        return repoOwner + "/" + repoName;
+    }
+
+}
@@ -15,6 +15,9 @@ public class MajorVersionInfo {
 
     private List<VersionDetails> allVersions;
     private List<VersionDetails> preVersions;
+    // index the versions are a view of, built on demand if they are not
+    private ReleaseIndex index;
+    private MajorVersionStatistics statistics;
 
     public String getMajorVersion() {
         return this.majorVersion;
@@ -70,16 +73,68 @@ public class MajorVersionInfo {
 
     public void setAllVersions(final List<VersionDetails> allVersions) {
         this.allVersions = allVersions;
+        this.preVersions = null;
+        this.index = null;
+        this.statistics = null;
     }
 
+    /**
+     * Returns the versions leading up to the release of this major version.
+     * Consolidated infos carry them as a view of {@link #getAllVersions()},
+     * others filter them on first access.
+     */
     public List<VersionDetails> getPreVersions() {
-        return this.preVersions;
+        List<VersionDetails> result = this.preVersions;
+        if (result == null) {
+            result = this.allVersions.stream()
+                    .filter(item -> item.getKey().isPreRelease()).toList();
+            this.preVersions = result;
+        }
+        return result;
     }
 
-    public void setPreVersions(final List<VersionDetails> preVersions) {
+    void setPreVersions(final List<VersionDetails> preVersions) {
         this.preVersions = preVersions;
     }
 
+    /**
+     * Returns the {@link ReleaseIndex} holding the versions of this major
+     * version, shared by all major versions of a consolidation run. Infos
+     * populated by hand get an index of their own versions.
+     */
+    public ReleaseIndex getIndex() {
+        ReleaseIndex result = this.index;
+        if (result == null) {
+            result = ReleaseIndex.of(this.allVersions == null ? List.of()
+                    : this.allVersions);
+            this.index = result;
+        }
+        return result;
+    }
+
+    void setIndex(final ReleaseIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns the cadence figures of this major version. Consolidated infos
+     * carry them precomputed, others compute them on first access.
+     */
+    public MajorVersionStatistics getStatistics() {
+        MajorVersionStatistics result = this.statistics;
+        if (result == null) {
+            final ReleaseIndex releaseIndex = this.getIndex();
+            result = MajorVersionStatistics.of(releaseIndex,
+                    releaseIndex.indexOf(this.majorVersion));
+            this.statistics = result;
+        }
+        return result;
+    }
+
+    public void setStatistics(final MajorVersionStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(this.majorVersion);
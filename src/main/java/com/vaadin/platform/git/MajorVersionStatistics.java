@@ -0,0 +1,133 @@
+package com.vaadin.platform.git;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.vaadin.platform.git.VersionKey.PreRelease;
+
+/**
+ * Release cadence figures of one major version, computed once per data
+ * refresh from the {@link ReleaseIndex}.
+ *
+ * @param medianGap
+ *            median time between two consecutive releases, {@code null}
+ *            with less than two releases
+ * @param p90Gap
+ *            90th percentile of the time between two consecutive releases,
+ *            {@code null} with less than two releases
+ * @param alphaToRelease
+ *            time from the first alpha to the {@code .0} release; from the
+ *            first beta, release candidate or snapshot if the major version
+ *            has no alpha. {@code null} without a {@code .0} release or any
+ *            of these
+ * @param releasesPerMonth
+ *            releases per month between the first and the last release,
+ *            counting spans shorter than a month as one month
+ * @param maintenanceTail
+ *            time from the {@code .0} release to the last release,
+ *            {@code null} if there is no {@code .0} release
+ * @param releasesByCreator
+ *            number of versions per creator, most active first; versions
+ *            without a known creator are not counted
+ */
+public record MajorVersionStatistics(Duration medianGap, Duration p90Gap,
+        Duration alphaToRelease, double releasesPerMonth,
+        Duration maintenanceTail, Map<String, Integer> releasesByCreator) {
+
+    // average length of a month in the Gregorian calendar
+    private static final double MONTH_MILLIS = ChronoUnit.MONTHS.getDuration()
+            .toMillis();
+
+    /**
+     * Computes the figures of the major version at the given position of the
+     * index.
+     */
+    public static MajorVersionStatistics of(final ReleaseIndex index,
+            final int major) {
+        final int start = index.start(major);
+        final int end = index.end(major);
+
+        // versions are ordered by release date within a major version
+        final long[] gaps = new long[Math.max(0, end - start - 1)];
+        for (int i = start + 1; i < end; i++) {
+            gaps[i - start - 1] = index.releasedOn(i)
+                    - index.releasedOn(i - 1);
+        }
+        Arrays.sort(gaps);
+
+        int firstAlpha = -1;
+        // used if there is no alpha
+        int firstPreRelease = -1;
+        int dotZero = -1;
+        final Map<String, Integer> creators = new HashMap<>();
+        for (int i = start; i < end; i++) {
+            if (firstAlpha < 0 && index.preRelease(i) == PreRelease.ALPHA) {
+                firstAlpha = i;
+            }
+            if (firstPreRelease < 0
+                    && index.preRelease(i) != PreRelease.FINAL) {
+                firstPreRelease = i;
+            }
+            if (dotZero < 0 && index.patch(i) == 0
+                    && index.preRelease(i) == PreRelease.FINAL) {
+                dotZero = i;
+            }
+            final String creator = index.creator(i);
+            if (creator != null) {
+                creators.merge(creator, 1, Integer::sum);
+            }
+        }
+
+        final int firstOfCycle = firstAlpha >= 0 ? firstAlpha
+                : firstPreRelease;
+        final long span = index.releasedOn(end - 1) - index.releasedOn(start);
+        return new MajorVersionStatistics(median(gaps), percentile(gaps, 90),
+                firstOfCycle < 0 || dotZero < 0 ? null
+                        : between(index, firstOfCycle, dotZero),
+                (end - start) / Math.max(1, span / MONTH_MILLIS),
+                dotZero < 0 ? null : between(index, dotZero, end - 1),
+                byCount(creators));
+    }
+
+    private static Duration between(final ReleaseIndex index, final int from,
+            final int to) {
+        return Duration
+                .ofMillis(index.releasedOn(to) - index.releasedOn(from));
+    }
+
+    private static Duration median(final long[] sorted) {
+        if (sorted.length == 0) {
+            return null;
+        }
+        final int middle = sorted.length / 2;
+        return Duration.ofMillis(sorted.length % 2 == 1 ? sorted[middle]
+                : (sorted[middle - 1] + sorted[middle]) / 2);
+    }
+
+    // nearest-rank percentile, always one of the given values
+    private static Duration percentile(final long[] sorted,
+            final int percent) {
+        if (sorted.length == 0) {
+            return null;
+        }
+        final int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return Duration.ofMillis(sorted[Math.max(0, rank - 1)]);
+    }
+
+    private static Map<String, Integer> byCount(
+            final Map<String, Integer> counts) {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer> comparingByValue()
+                        .reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> result.put(entry.getKey(),
+                        entry.getValue()));
+        return Collections.unmodifiableMap(result);
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.vaadin.platform.git;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Number of releases per major version and calendar bucket, pre-bucketed by
+ * week, month, quarter and year from the {@link ReleaseIndex} of a snapshot.
+ * Any time range is served from these counts, so zooming and panning a chart
+ * never goes back to the versions.
+ * <p>
+ * Buckets are aligned to calendar boundaries in UTC; weeks start on Monday.
+ * Empty buckets between the first and the last release are kept, so the
+ * buckets of a resolution are contiguous.
+ */
+public final class ReleaseHistogram {
+
+    /**
+     * Bucket size, from fine to coarse.
+     */
+    public enum Resolution {
+        WEEK("week"), MONTH("month"), QUARTER("quarter"), YEAR("year");
+
+        private final String label;
+
+        private Resolution(final String label) {
+            this.label = label;
+        }
+
+        private LocalDate floor(final LocalDate date) {
+            return switch (this) {
+            case WEEK -> date
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case QUARTER -> LocalDate.of(date.getYear(),
+                    (date.getMonthValue() - 1) / 3 * 3 + 1, 1);
+            case YEAR -> date.withDayOfYear(1);
+            };
+        }
+
+        private LocalDate next(final LocalDate start) {
+            return switch (this) {
+            case WEEK -> start.plusWeeks(1);
+            case MONTH -> start.plusMonths(1);
+            case QUARTER -> start.plusMonths(3);
+            case YEAR -> start.plusYears(1);
+            };
+        }
+
+        @Override
+        public String toString() {
+            return this.label;
+        }
+    }
+
+    /**
+     * Counts of the buckets overlapping a time range. Only major versions
+     * released in the range are included.
+     *
+     * @param resolution
+     *            bucket size of the slice
+     * @param bucketStarts
+     *            start of each bucket in epoch milliseconds
+     * @param from
+     *            start of the first bucket
+     * @param to
+     *            end of the last bucket, exclusive
+     * @param majorVersions
+     *            the included major versions, ascending
+     * @param counts
+     *            releases per bucket of each included major version
+     */
+    public record Slice(Resolution resolution, long[] bucketStarts, long from,
+            long to, List<String> majorVersions, List<int[]> counts) {
+    }
+
+    private final List<String> majorVersions;
+    // bucket starts per resolution with the end of the last bucket appended
+    private final Map<Resolution, long[]> bounds = new EnumMap<>(
+            Resolution.class);
+    // releases per major version and bucket per resolution
+    private final Map<Resolution, int[][]> counts = new EnumMap<>(
+            Resolution.class);
+
+    private ReleaseHistogram(final ReleaseIndex index) {
+        final List<String> majors = new ArrayList<>(index.majorCount());
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (int major = 0; major < index.majorCount(); major++) {
+            majors.add(index.majorVersion(major));
+            // ordered by release date within a major version
+            first = Math.min(first, index.releasedOn(index.start(major)));
+            last = Math.max(last, index.releasedOn(index.end(major) - 1));
+        }
+        this.majorVersions = List.copyOf(majors);
+
+        for (final Resolution resolution : Resolution.values()) {
+            final long[] resolutionBounds = index.size() == 0 ? new long[0]
+                    : bounds(resolution, first, last);
+            final int buckets = Math.max(0, resolutionBounds.length - 1);
+            final int[][] resolutionCounts = new int[index
+                    .majorCount()][buckets];
+            for (int major = 0; major < index.majorCount(); major++) {
+                for (int i = index.start(major); i < index.end(major); i++) {
+                    resolutionCounts[major][bucket(resolutionBounds,
+                            index.releasedOn(i))]++;
+                }
+            }
+            this.bounds.put(resolution, resolutionBounds);
+            this.counts.put(resolution, resolutionCounts);
+        }
+    }
+
+    /**
+     * Buckets the versions of the index.
+     */
+    public static ReleaseHistogram of(final ReleaseIndex index) {
+        return new ReleaseHistogram(index);
+    }
+
+    private static long[] bounds(final Resolution resolution, final long first,
+            final long last) {
+        final LocalDate end = resolution.next(resolution.floor(date(last)));
+        final List<Long> result = new ArrayList<>();
+        for (LocalDate start = resolution.floor(date(first)); !start
+                .isAfter(end); start = resolution.next(start)) {
+            result.add(start.atStartOfDay(ZoneOffset.UTC).toInstant()
+                    .toEpochMilli());
+        }
+        return result.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static LocalDate date(final long epochMilli) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMilli),
+                ZoneOffset.UTC);
+    }
+
+    // bucket containing the time, clamped to the first and the last bucket
+    private static int bucket(final long[] bounds, final long time) {
+        int position = Arrays.binarySearch(bounds, time);
+        if (position < 0) {
+            // insertion point is the bucket after the containing one
+            position = -position - 2;
+        }
+        return Math.max(0, Math.min(position, bounds.length - 2));
+    }
+
+    public List<String> getMajorVersions() {
+        return this.majorVersions;
+    }
+
+    /**
+     * Returns whether there are no releases at all.
+     */
+    public boolean isEmpty() {
+        return this.bounds.get(Resolution.YEAR).length == 0;
+    }
+
+    /**
+     * Returns the start of the first week with releases in epoch milliseconds.
+     */
+    public long getFrom() {
+        return this.bounds.get(Resolution.WEEK)[0];
+    }
+
+    /**
+     * Returns the end of the last week with releases in epoch milliseconds.
+     */
+    public long getTo() {
+        final long[] weeks = this.bounds.get(Resolution.WEEK);
+        return weeks[weeks.length - 1];
+    }
+
+    /**
+     * Returns the finest resolution that covers the range with at most the
+     * given number of buckets, or {@link Resolution#YEAR} if none does.
+     */
+    public Resolution resolutionFor(final long from, final long to,
+            final int maxBuckets) {
+        for (final Resolution resolution : Resolution.values()) {
+            final long[] resolutionBounds = this.bounds.get(resolution);
+            if (resolutionBounds.length == 0
+                    || bucket(resolutionBounds, to) - bucket(resolutionBounds,
+                            from) < maxBuckets) {
+                return resolution;
+            }
+        }
+        return Resolution.YEAR;
+    }
+
+    /**
+     * Returns the counts of the buckets of the given resolution overlapping
+     * the range. Runs in the number of major versions times the number of
+     * returned buckets.
+     */
+    public Slice slice(final Resolution resolution, final long from,
+            final long to) {
+        final long[] resolutionBounds = this.bounds.get(resolution);
+        if (resolutionBounds.length == 0) {
+            return new Slice(resolution, new long[0], from, to, List.of(),
+                    List.of());
+        }
+        final int first = bucket(resolutionBounds, from);
+        final int last = bucket(resolutionBounds, Math.max(from, to));
+
+        final List<String> sliceMajors = new ArrayList<>();
+        final List<int[]> sliceCounts = new ArrayList<>();
+        final int[][] resolutionCounts = this.counts.get(resolution);
+        for (int major = 0; major < resolutionCounts.length; major++) {
+            final int[] majorCounts = Arrays
+                    .copyOfRange(resolutionCounts[major], first, last + 1);
+            if (Arrays.stream(majorCounts).anyMatch(count -> count > 0)) {
+                sliceMajors.add(this.majorVersions.get(major));
+                sliceCounts.add(majorCounts);
+            }
+        }
+        return new Slice(resolution,
+                Arrays.copyOfRange(resolutionBounds, first, last + 1),
+                resolutionBounds[first], resolutionBounds[last + 1],
+                sliceMajors, sliceCounts);
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseHistogram [majorVersions=" + this.majorVersions.size()
+                + ", weeks="
+                + Math.max(0, this.bounds.get(Resolution.WEEK).length - 1)
+                + "]";
+    }
+
+}
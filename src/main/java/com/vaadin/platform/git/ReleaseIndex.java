@@ -0,0 +1,435 @@
+package com.vaadin.platform.git;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import com.vaadin.platform.git.VersionKey.PreRelease;
+
+/**
+ * Columnar, read-only index of all versions of a repository. Every version is
+ * a position in a set of primitive arrays instead of a {@link VersionDetails}
+ * with its date and key objects, so a long history takes a fraction of the
+ * heap and aggregations run over plain arrays.
+ * <p>
+ * Versions are grouped by major version in ascending order and ordered by
+ * release date within a major version, the order of
+ * {@link MajorVersionInfo#getAllVersions()}. Creators and time zone offsets
+ * are dictionary encoded, as few distinct values repeat over thousands of
+ * tags. The positions of the versions leading up to a release are kept per
+ * major version as well.
+ * <p>
+ * Code that runs per request or per refresh should read the columns by
+ * position. The {@link VersionDetails} lists handed out for the UI are views
+ * that create a row per access and keep none, so the index stays the only
+ * copy of the data.
+ */
+public final class ReleaseIndex {
+
+    // set in kinds on top of the PreRelease ordinal
+    private static final byte LEADS_TO_RELEASE = 0x40;
+    private static final byte KIND_MASK = 0x0f;
+    private static final PreRelease[] KINDS = PreRelease.values();
+
+    private static final Comparator<VersionDetails> INDEX_ORDER = Comparator
+            .comparingInt((final VersionDetails item) -> item.getKey()
+                    .getMajor())
+            .thenComparingInt(item -> item.getKey().getMinor())
+            .thenComparing(VersionDetails::getReleasedOn)
+            .thenComparing(VersionDetails::getKey);
+
+    private final String[] versions;
+    private final long[] releasedOn;
+    private final short[] offsets;
+    private final int[] majors;
+    private final int[] minors;
+    private final int[] patches;
+    private final byte[] kinds;
+    private final int[] creators;
+    // position of each version in GitService.VERSION_ORDER
+    private final int[] versionRanks;
+
+    private final ZoneOffset[] offsetDictionary;
+    private final String[] creatorDictionary;
+
+    // versions of major version m are in [majorStarts[m], majorStarts[m + 1])
+    private final String[] majorVersions;
+    private final int[] majorStarts;
+    // positions of the versions of major version m with isPreRelease(i) are
+    // preReleases[preReleaseStarts[m]] until preReleaseStarts[m + 1]
+    private final int[] preReleases;
+    private final int[] preReleaseStarts;
+
+    private ReleaseIndex(final List<VersionDetails> sorted) {
+        final int size = sorted.size();
+        this.versions = new String[size];
+        this.releasedOn = new long[size];
+        this.offsets = new short[size];
+        this.majors = new int[size];
+        this.minors = new int[size];
+        this.patches = new int[size];
+        this.kinds = new byte[size];
+        this.creators = new int[size];
+        this.versionRanks = new int[size];
+
+        final Map<ZoneOffset, Short> offsetIds = new HashMap<>();
+        final List<ZoneOffset> offsetDictionary = new ArrayList<>();
+        final Map<String, Integer> creatorIds = new HashMap<>();
+        final List<String> creatorDictionary = new ArrayList<>();
+        final List<String> majorVersions = new ArrayList<>();
+        final List<Integer> majorStarts = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            final VersionDetails item = sorted.get(i);
+            final VersionKey key = item.getKey();
+            final OffsetDateTime date = item.getReleasedOn();
+            if (i == 0 || !key
+                    .isSameMajorVersion(sorted.get(i - 1).getKey())) {
+                majorVersions.add(key.getMajorVersion());
+                majorStarts.add(i);
+            }
+            this.versions[i] = item.getVersion();
+            this.releasedOn[i] = date.toInstant().toEpochMilli();
+            this.offsets[i] = offsetIds.computeIfAbsent(date.getOffset(),
+                    offset -> {
+                        offsetDictionary.add(offset);
+                        return (short) (offsetDictionary.size() - 1);
+                    });
+            this.majors[i] = key.getMajor();
+            this.minors[i] = key.getMinor();
+            this.patches[i] = key.getPatch();
+            this.kinds[i] = (byte) (key.getPreRelease().ordinal()
+                    | (key.isPreRelease() ? LEADS_TO_RELEASE : 0));
+            this.creators[i] = item.getCreator() == null ? -1
+                    : creatorIds.computeIfAbsent(item.getCreator(),
+                            creator -> {
+                                creatorDictionary.add(creator);
+                                return creatorDictionary.size() - 1;
+                            });
+        }
+        majorStarts.add(size);
+
+        final List<Integer> byVersion = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byVersion.add(i);
+        }
+        byVersion.sort((a, b) -> GitService.VERSION_ORDER
+                .compare(sorted.get(a), sorted.get(b)));
+        for (int rank = 0; rank < size; rank++) {
+            this.versionRanks[byVersion.get(rank)] = rank;
+        }
+
+        this.offsetDictionary = offsetDictionary.toArray(ZoneOffset[]::new);
+        this.creatorDictionary = creatorDictionary.toArray(String[]::new);
+        this.majorVersions = majorVersions.toArray(String[]::new);
+        this.majorStarts = majorStarts.stream().mapToInt(Integer::intValue)
+                .toArray();
+
+        this.preReleaseStarts = new int[this.majorVersions.length + 1];
+        int preReleaseCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (this.isPreRelease(i)) {
+                preReleaseCount++;
+            }
+        }
+        this.preReleases = new int[preReleaseCount];
+        int next = 0;
+        for (int major = 0; major < this.majorVersions.length; major++) {
+            this.preReleaseStarts[major] = next;
+            for (int i = this.start(major); i < this.end(major); i++) {
+                if (this.isPreRelease(i)) {
+                    this.preReleases[next++] = i;
+                }
+            }
+        }
+        this.preReleaseStarts[this.majorVersions.length] = next;
+    }
+
+    /**
+     * Builds the index of the given versions, in any order. The list is not
+     * modified and not referenced afterwards.
+     */
+    public static ReleaseIndex of(final List<VersionDetails> versionDetails) {
+        final List<VersionDetails> sorted = new ArrayList<>(versionDetails);
+        sorted.sort(INDEX_ORDER);
+        return new ReleaseIndex(sorted);
+    }
+
+    /**
+     * Returns the number of versions in the index.
+     */
+    public int size() {
+        return this.versions.length;
+    }
+
+    /**
+     * Returns the number of major versions in the index.
+     */
+    public int majorCount() {
+        return this.majorVersions.length;
+    }
+
+    /**
+     * Returns the "major.minor" name of the major version at the given
+     * position, for example {@code 24.7}.
+     */
+    public String majorVersion(final int major) {
+        return this.majorVersions[major];
+    }
+
+    /**
+     * Returns the position of the given major version, or {@code -1} if the
+     * index has no versions of it.
+     */
+    public int indexOf(final String majorVersion) {
+        for (int major = 0; major < this.majorVersions.length; major++) {
+            if (this.majorVersions[major].equals(majorVersion)) {
+                return major;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the given version, or {@code -1} if the index
+     * does not contain it. Only the versions of its major version are
+     * searched.
+     */
+    public int find(final String version) {
+        final int major = this.indexOf(
+                VersionKey.parse(version).getMajorVersion());
+        if (major >= 0) {
+            for (int i = this.start(major); i < this.end(major); i++) {
+                if (this.versions[i].equals(version)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first version of the given major version.
+     */
+    public int start(final int major) {
+        return this.majorStarts[major];
+    }
+
+    /**
+     * Returns the position after the last version of the given major version.
+     */
+    public int end(final int major) {
+        return this.majorStarts[major + 1];
+    }
+
+    /**
+     * Returns the number of versions of the given major version that lead up
+     * to its release.
+     */
+    public int preReleaseCount(final int major) {
+        return this.preReleaseStarts[major + 1]
+                - this.preReleaseStarts[major];
+    }
+
+    /**
+     * Returns the position of the n-th version leading up to the release of
+     * the given major version, in release order.
+     */
+    public int preRelease(final int major, final int n) {
+        return this.preReleases[this.preReleaseStarts[major] + n];
+    }
+
+    public String version(final int i) {
+        return this.versions[i];
+    }
+
+    /**
+     * Returns the release time in epoch milliseconds.
+     */
+    public long releasedOn(final int i) {
+        return this.releasedOn[i];
+    }
+
+    /**
+     * Returns the release time in the time zone it was tagged in.
+     */
+    public OffsetDateTime releasedOnDate(final int i) {
+        return OffsetDateTime.ofInstant(
+                Instant.ofEpochMilli(this.releasedOn[i]),
+                this.offsetDictionary[this.offsets[i]]);
+    }
+
+    /**
+     * Returns the day of the release in the time zone it was tagged in, as
+     * days since 1970-01-01.
+     */
+    public long releasedOnEpochDay(final int i) {
+        final long localMillis = this.releasedOn[i]
+                + this.offsetDictionary[this.offsets[i]].getTotalSeconds()
+                        * 1000L;
+        return Math.floorDiv(localMillis, 86_400_000L);
+    }
+
+    public int major(final int i) {
+        return this.majors[i];
+    }
+
+    public int minor(final int i) {
+        return this.minors[i];
+    }
+
+    public int patch(final int i) {
+        return this.patches[i];
+    }
+
+    public PreRelease preRelease(final int i) {
+        return KINDS[this.kinds[i] & KIND_MASK];
+    }
+
+    /**
+     * Returns whether the version leads up to a major release, see
+     * {@link VersionKey#isPreRelease()}.
+     */
+    public boolean isPreRelease(final int i) {
+        return (this.kinds[i] & LEADS_TO_RELEASE) != 0;
+    }
+
+    /**
+     * Returns the position of the version when all versions of the index are
+     * ordered by version number and then by release date.
+     */
+    public int versionRank(final int i) {
+        return this.versionRanks[i];
+    }
+
+    public String creator(final int i) {
+        final int creator = this.creators[i];
+        return creator < 0 ? null : this.creatorDictionary[creator];
+    }
+
+    /**
+     * Returns the number of distinct creators.
+     */
+    public int creatorCount() {
+        return this.creatorDictionary.length;
+    }
+
+    /**
+     * Returns the version at the given position as a new
+     * {@link VersionDetails}.
+     */
+    public VersionDetails details(final int i) {
+        return new VersionDetails(this.versions[i], this.releasedOnDate(i),
+                this.creator(i));
+    }
+
+    /**
+     * Returns the versions of the given major version as an unmodifiable
+     * view that creates a new element on every access.
+     */
+    public List<VersionDetails> versions(final int major) {
+        return new Versions(this.start(major), this.end(major));
+    }
+
+    /**
+     * Aggregates every major version of the index, statistics included. The
+     * versions of the returned infos are views of this index.
+     */
+    public List<MajorVersionInfo> majorVersionsInfo() {
+        final List<MajorVersionInfo> result = new ArrayList<>(
+                this.majorCount());
+        for (int major = 0; major < this.majorCount(); major++) {
+            final int start = this.start(major);
+            final int end = this.end(major);
+            final int preReleases = this.preReleaseCount(major);
+            final int lastPreRelease = preReleases == 0 ? end - 1
+                    : this.preRelease(major, preReleases - 1);
+            final Versions versions = new Versions(start, end);
+            final var versionInfo = new MajorVersionInfo();
+            versionInfo.setMajorVersion(this.majorVersion(major));
+            versionInfo.setFirstRelease(this.releasedOnDate(start));
+            versionInfo.setLastRelease(this.releasedOnDate(end - 1));
+            versionInfo.setLastPreRelease(this.releasedOnDate(lastPreRelease));
+            versionInfo.setNumberOfReleases(end - start);
+            versionInfo.setNumberOfPreReleases(preReleases);
+            versionInfo.setAllVersions(versions);
+            versionInfo.setPreVersions(versions.preReleases(major));
+            versionInfo.setIndex(this);
+            versionInfo.setStatistics(MajorVersionStatistics.of(this, major));
+            result.add(versionInfo);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseIndex [versions=" + this.size() + ", majorVersions="
+                + this.majorCount() + ", creators=" + this.creatorCount()
+                + "]";
+    }
+
+    private final class Versions extends AbstractList<VersionDetails>
+            implements RandomAccess {
+        private final int start;
+        private final int end;
+
+        private Versions(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public VersionDetails get(final int index) {
+            if (index < 0 || index >= this.size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return ReleaseIndex.this.details(this.start + index);
+        }
+
+        @Override
+        public int size() {
+            return this.end - this.start;
+        }
+
+        /**
+         * Returns the versions leading up to the release as a view of this
+         * list.
+         */
+        private List<VersionDetails> preReleases(final int major) {
+            return new PreReleases(this, major);
+        }
+    }
+
+    private final class PreReleases extends AbstractList<VersionDetails>
+            implements RandomAccess {
+        private final Versions versions;
+        private final int major;
+
+        private PreReleases(final Versions versions, final int major) {
+            this.versions = versions;
+            this.major = major;
+        }
+
+        @Override
+        public VersionDetails get(final int index) {
+            if (index < 0 || index >= this.size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return this.versions.get(ReleaseIndex.this.preRelease(this.major,
+                    index) - this.versions.start);
+        }
+
+        @Override
+        public int size() {
+            return ReleaseIndex.this.preReleaseCount(this.major);
+        }
+    }
+
+}
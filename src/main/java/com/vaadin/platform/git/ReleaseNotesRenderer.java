@@ -0,0 +1,160 @@
+package com.vaadin.platform.git;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Renders the Markdown release notes fetched by {@link GitHubService} to HTML
+ * and caches the result per repository and version. The notes of the latest
+ * versions are rendered in the background whenever a new
+ * {@link VersionsSnapshot} is published, so their dialogs open instantly.
+ * <p>
+ * UI code should use
+ * {@link #renderReleaseNotesAsync(GitRepository, String)}, which fetches on a
+ * background pool and never blocks the session lock.
+ */
+@Service
+public class ReleaseNotesRenderer {
+    private static final Logger LOGGER = LogManager
+            .getLogger(ReleaseNotesRenderer.class);
+
+    // both are immutable and thread-safe
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Value("${github.release.cache.maxSize}")
+    private long cacheMaxSize;
+    @Value("${github.release.cache.ttl}")
+    private long cacheTtl;
+    @Value("${github.release.prerender.count}")
+    private int prerenderCount;
+    @Value("${github.release.fetchThreads}")
+    private int fetchThreads;
+
+    private final GitHubService gitHubService;
+
+    private Cache<ReleaseTag, String> htmlCache;
+    private ExecutorService prerenderExecutor;
+    private ExecutorService fetchExecutor;
+    private final Map<ReleaseTag, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public ReleaseNotesRenderer(final GitHubService gitHubService) {
+        this.gitHubService = gitHubService;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.htmlCache = Caffeine.newBuilder().maximumSize(this.cacheMaxSize)
+                .expireAfterWrite(this.cacheTtl, TimeUnit.SECONDS).build();
+        this.prerenderExecutor = Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(r, "release-notes-prerender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.fetchExecutor = Executors.newFixedThreadPool(this.fetchThreads,
+                r -> {
+                    final Thread thread = new Thread(r, "release-notes-fetch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.prerenderExecutor.shutdownNow();
+        this.fetchExecutor.shutdownNow();
+    }
+
+    /**
+     * Renders the release notes of the given version on a background pool.
+     * Concurrent calls for the same version share one in-flight request.
+     */
+    public CompletableFuture<String> renderReleaseNotesAsync(
+            final GitRepository repository, final String versionName) {
+        final ReleaseTag tag = new ReleaseTag(repository, versionName);
+        final String cached = this.htmlCache.getIfPresent(tag);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        final CompletableFuture<String> future = this.inFlight.computeIfAbsent(
+                tag,
+                key -> CompletableFuture.supplyAsync(
+                        () -> this.renderReleaseNotes(repository, versionName),
+                        this.fetchExecutor));
+        future.whenComplete((html, error) -> this.inFlight.remove(tag, future));
+        return future;
+    }
+
+    /**
+     * Returns the release notes of the given version as HTML wrapped in a
+     * single {@code div}.
+     */
+    public String renderReleaseNotes(final GitRepository repository,
+            final String versionName) {
+        final ReleaseTag tag = new ReleaseTag(repository, versionName);
+        final String cached = this.htmlCache.getIfPresent(tag);
+        if (cached != null) {
+            return cached;
+        }
+        final String releaseNotes = this.gitHubService
+                .fetchReleaseNotes(repository, versionName);
+        final String html = "<div>"
+                + RENDERER.render(PARSER.parse(releaseNotes)) + "</div>";
+        // failures are cached briefly by GitHubService, not here
+        if (!GitHubService.FETCH_FAILED.equals(releaseNotes)) {
+            this.htmlCache.put(tag, html);
+        }
+        return html;
+    }
+
+    @EventListener
+    public void onSnapshot(final VersionsSnapshot snapshot) {
+        // selecting the versions is left to the background thread as well
+        this.prerenderExecutor.execute(() -> {
+            final GitRepository repository = snapshot.getRepository();
+            final ReleaseIndex index = snapshot.getIndex();
+            final int[] latest = latest(index, this.prerenderCount);
+            for (final int i : latest) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                this.renderReleaseNotes(repository, index.version(i));
+            }
+            LOGGER.info("Pre-rendered release notes of {} versions of {}",
+                    latest.length, repository);
+        });
+    }
+
+    /**
+     * Returns the positions of the most recently released versions of the
+     * index, newest first.
+     */
+    static int[] latest(final ReleaseIndex index, final int count) {
+        return IntStream.range(0, index.size()).boxed()
+                .sorted(Comparator.<Integer> comparingLong(index::releasedOn)
+                        .reversed())
+                .limit(Math.max(0, count)).mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+}
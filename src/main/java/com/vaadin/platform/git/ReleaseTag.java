@@ -0,0 +1,7 @@
+package com.vaadin.platform.git;
+
+/**
+ * A version tag of one repository, used as cache key for release notes.
+ */
+record ReleaseTag(GitRepository repository, String version) {
+}
@@ -0,0 +1,40 @@
+package com.vaadin.platform.git;
+
+import java.util.Optional;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until every configured repository has a
+ * snapshot. Part of the readiness group, so load balancers only route
+ * traffic to instances that can serve all views without crawling.
+ */
+@Component
+public class SnapshotsHealthIndicator implements HealthIndicator {
+
+    private final VersionsSnapshotService snapshotService;
+
+    public SnapshotsHealthIndicator(
+            final VersionsSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Override
+    public Health health() {
+        boolean complete = true;
+        final Health.Builder builder = new Health.Builder();
+        for (final GitRepository repository : this.snapshotService
+                .getRepositories()) {
+            final Optional<VersionsSnapshot> snapshot = this.snapshotService
+                    .findSnapshot(repository);
+            complete &= snapshot.isPresent();
+            builder.withDetail(repository.toString(), snapshot
+                    .map(value -> "published " + value.getCreatedAt())
+                    .orElse("loading"));
+        }
+        return (complete ? builder.up() : builder.outOfService()).build();
+    }
+
+}
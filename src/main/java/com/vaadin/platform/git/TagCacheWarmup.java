@@ -0,0 +1,88 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the snapshots of all repositories during startup. Spring Boot
+ * reports the application ready only after all {@link ApplicationRunner}s
+ * have finished, so the first request never waits for a crawl.
+ * <p>
+ * Cached tags are served whatever their age; outdated ones are refreshed in
+ * the background right after startup. Only repositories without any cache
+ * are crawled during the warm-up. A failed warm-up does not stop the
+ * application, instead the repository is retried in the background and
+ * {@link SnapshotsHealthIndicator} keeps the instance out of service until
+ * its snapshot exists.
+ */
+@Component
+public class TagCacheWarmup implements ApplicationRunner {
+    private static final Logger LOGGER = LogManager
+            .getLogger(TagCacheWarmup.class);
+
+    @Value("${tagservice.warmup.enabled}")
+    private boolean warmupEnabled;
+
+    private final VersionsSnapshotService snapshotService;
+    private final TagRefreshScheduler refreshScheduler;
+
+    public TagCacheWarmup(final VersionsSnapshotService snapshotService,
+            final TagRefreshScheduler refreshScheduler) {
+        this.snapshotService = snapshotService;
+        this.refreshScheduler = refreshScheduler;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args)
+            throws InterruptedException {
+        if (this.warmupEnabled) {
+            this.warmUp();
+        }
+    }
+
+    /**
+     * Publishes the snapshots of all repositories and starts background
+     * refreshes of the outdated ones.
+     *
+     * @return the repositories being refreshed in the background
+     */
+    List<GitRepository> warmUp() throws InterruptedException {
+        final long start = System.currentTimeMillis();
+        final List<GitRepository> outdated = new ArrayList<>();
+        for (final GitRepository repository : this.snapshotService
+                .getRepositories()) {
+            try {
+                if (!this.refreshScheduler.isEnabled()) {
+                    // nothing would refresh outdated data later
+                    this.snapshotService.getSnapshot(repository);
+                } else if (this.snapshotService.warmUp(repository)) {
+                    outdated.add(repository);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Warm-up of {} failed, retrying in the background",
+                        repository, e);
+                if (this.refreshScheduler.isEnabled()) {
+                    outdated.add(repository);
+                }
+            }
+        }
+        if (!outdated.isEmpty()) {
+            LOGGER.info("Refreshing outdated tags of {} in the background",
+                    outdated);
+            this.refreshScheduler.refreshInBackground(outdated);
+        }
+        LOGGER.info("Warm-up of {} repositories took {} ms",
+                this.snapshotService.getRepositories().size(),
+                System.currentTimeMillis() - start);
+        return outdated;
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Streams one page of the tag query into {@link VersionDetails} without
+ * building a {@code JsonNode} tree of the response. Only the strings that end
+ * up in the result are materialized; unknown fields are skipped token by
+ * token.
+ */
+final class TagPageReader
+        implements GitHubGraphQlClient.DataReader<TagPageReader.Page> {
+
+    /**
+     * One page of tags.
+     *
+     * @param tags
+     *            the tags in the order of the response
+     * @param endCursor
+     *            the cursor of the next page, {@code null} on the last page
+     */
+    record Page(List<VersionDetails> tags, String endCursor) {
+    }
+
+    private final List<VersionDetails> tags;
+    private boolean hasNextPage;
+    private String endCursor;
+
+    TagPageReader(final int pageSize) {
+        this.tags = new ArrayList<>(pageSize);
+    }
+
+    @Override
+    public void readField(final String name, final JsonParser parser)
+            throws IOException {
+        if ("repository".equals(name)) {
+            forEachField(parser, (field, p) -> {
+                if ("refs".equals(field)) {
+                    this.readRefs(p);
+                } else {
+                    p.skipChildren();
+                }
+            });
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    @Override
+    public Page result() {
+        return new Page(this.tags, this.hasNextPage ? this.endCursor : null);
+    }
+
+    private void readRefs(final JsonParser parser) throws IOException {
+        forEachField(parser, (field, p) -> {
+            if ("pageInfo".equals(field)) {
+                forEachField(p, (pageField, q) -> {
+                    if ("hasNextPage".equals(pageField)) {
+                        this.hasNextPage = q.getValueAsBoolean();
+                    } else if ("endCursor".equals(pageField)) {
+                        this.endCursor = q.getValueAsString();
+                    } else {
+                        q.skipChildren();
+                    }
+                });
+            } else if ("nodes".equals(field)
+                    && p.currentToken() == JsonToken.START_ARRAY) {
+                while (p.nextToken() == JsonToken.START_OBJECT) {
+                    this.tags.add(readNode(p));
+                }
+            } else {
+                p.skipChildren();
+            }
+        });
+    }
+
+    /**
+     * Reads one tag. Fields may come in any order, so the values of both
+     * target types are collected before picking the ones of the actual type.
+     */
+    private static VersionDetails readNode(final JsonParser parser)
+            throws IOException {
+        final String[] name = new String[1];
+        final Target target = new Target();
+        forEachField(parser, (field, p) -> {
+            if ("name".equals(field)) {
+                name[0] = p.getValueAsString();
+            } else if ("target".equals(field)) {
+                target.read(p);
+            } else {
+                p.skipChildren();
+            }
+        });
+        return target.toVersionDetails(name[0]);
+    }
+
+    private static final class Target {
+        private String typename;
+        private String taggerName;
+        private String taggerLogin;
+        private String taggerDate;
+        private String authorName;
+        private String authorLogin;
+        private String committedDate;
+
+        void read(final JsonParser parser) throws IOException {
+            forEachField(parser, (field, p) -> {
+                switch (field) {
+                case "__typename" -> this.typename = p.getValueAsString();
+                case "committedDate" -> this.committedDate = p
+                        .getValueAsString();
+                case "tagger" -> forEachField(p, (person, q) -> {
+                    switch (person) {
+                    case "name" -> this.taggerName = q.getValueAsString();
+                    case "date" -> this.taggerDate = q.getValueAsString();
+                    case "user" -> this.taggerLogin = readLogin(q);
+                    default -> q.skipChildren();
+                    }
+                });
+                case "author" -> forEachField(p, (person, q) -> {
+                    switch (person) {
+                    case "name" -> this.authorName = q.getValueAsString();
+                    case "user" -> this.authorLogin = readLogin(q);
+                    default -> q.skipChildren();
+                    }
+                });
+                default -> p.skipChildren();
+                }
+            });
+        }
+
+        VersionDetails toVersionDetails(final String tagName) {
+            String createdBy = null;
+            String createdAt = null;
+            if ("Tag".equals(this.typename)) {
+                createdBy = this.taggerLogin != null ? this.taggerLogin
+                        : orEmpty(this.taggerName);
+                createdAt = this.taggerDate;
+            } else if ("Commit".equals(this.typename)) {
+                createdBy = this.authorLogin != null ? this.authorLogin
+                        : orEmpty(this.authorName);
+                createdAt = this.committedDate;
+            }
+            return new VersionDetails(tagName, parseDate(orEmpty(createdAt)),
+                    createdBy);
+        }
+    }
+
+    /**
+     * Parses the {@code 2025-03-31T12:15:30Z} and
+     * {@code 2025-03-31T12:15:30+03:00} timestamps GitHub returns without
+     * going through a {@code DateTimeFormatter}, which allocates a lot per
+     * call. Other forms fall back to {@link OffsetDateTime#parse}.
+     */
+    static OffsetDateTime parseDate(final String text) {
+        final int length = text.length();
+        if ((length == 20 && text.charAt(19) == 'Z' || length == 25)
+                && text.charAt(4) == '-' && text.charAt(7) == '-'
+                && text.charAt(10) == 'T' && text.charAt(13) == ':'
+                && text.charAt(16) == ':') {
+            try {
+                ZoneOffset offset = ZoneOffset.UTC;
+                if (length == 25) {
+                    final char sign = text.charAt(19);
+                    if (sign != '+' && sign != '-' || text.charAt(22) != ':') {
+                        return OffsetDateTime.parse(text);
+                    }
+                    final int seconds = digits(text, 20) * 3600
+                            + digits(text, 23) * 60;
+                    offset = ZoneOffset
+                            .ofTotalSeconds(sign == '-' ? -seconds : seconds);
+                }
+                final int year = digits(text, 0) * 100 + digits(text, 2);
+                return OffsetDateTime.of(year, digits(text, 5),
+                        digits(text, 8), digits(text, 11), digits(text, 14),
+                        digits(text, 17), 0, offset);
+            } catch (final NumberFormatException | DateTimeException e) {
+                // not the expected form after all
+            }
+        }
+        return OffsetDateTime.parse(text);
+    }
+
+    private static int digits(final String text, final int start) {
+        final int high = text.charAt(start) - '0';
+        final int low = text.charAt(start + 1) - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            throw new NumberFormatException(text);
+        }
+        return high * 10 + low;
+    }
+
+    private static String readLogin(final JsonParser parser)
+            throws IOException {
+        final String[] login = new String[1];
+        forEachField(parser, (field, p) -> {
+            if ("login".equals(field)) {
+                login[0] = p.getValueAsString();
+            } else {
+                p.skipChildren();
+            }
+        });
+        return login[0];
+    }
+
+    private static String orEmpty(final String value) {
+        return value == null ? "" : value;
+    }
+
+    private interface FieldHandler {
+        void handle(String field, JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Calls the handler for every field of the object the parser is
+     * positioned on, with the parser on the first token of the value. Does
+     * nothing for {@code null} or non-object values.
+     */
+    private static void forEachField(final JsonParser parser,
+            final FieldHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            handler.handle(field, parser);
+        }
+    }
+
+}
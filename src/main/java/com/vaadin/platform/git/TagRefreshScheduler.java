@@ -0,0 +1,275 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Reloads the tags of all configured repositories in the background before
+ * the tag cache expires and publishes a new {@link VersionsSnapshot} per
+ * repository afterwards. Until the reload finishes the previous snapshot keeps
+ * being served. Failed reloads are logged and retried with an exponential
+ * backoff per repository; they are never visible to users.
+ * <p>
+ * Repositories are crawled in parallel by up to
+ * {@code tagservice.refresh.parallelism} threads; the total number of GitHub
+ * requests is still capped by {@link GitHubHttpClient}.
+ * <p>
+ * Reloads are incremental and only fetch tags newer than the cached ones. A
+ * full resync runs every {@code tagservice.refresh.fullSyncInterval} seconds
+ * or on demand through {@link #fullResyncNow()}.
+ */
+@Component
+public class TagRefreshScheduler {
+    private static final Logger LOGGER = LogManager
+            .getLogger(TagRefreshScheduler.class);
+
+    @Value("${tagservice.refresh.enabled}")
+    private boolean refreshEnabled;
+    // interval between two successful reloads in seconds
+    @Value("${tagservice.refresh.interval}")
+    private long refreshInterval;
+    // interval between two full resyncs in seconds
+    @Value("${tagservice.refresh.fullSyncInterval}")
+    private long fullSyncInterval;
+    // first and maximum delay after a failed reload in seconds
+    @Value("${tagservice.refresh.backoff.initial}")
+    private long initialBackoff;
+    @Value("${tagservice.refresh.backoff.max}")
+    private long maxBackoff;
+    @Value("${tagservice.refresh.parallelism}")
+    private int parallelism;
+
+    private final TagSource tagSource;
+    private final VersionsSnapshotService snapshotService;
+
+    private ScheduledExecutorService executor;
+    // created on first use, guarded by its own lock so that submitting work
+    // never waits for a running refreshNow()
+    private volatile ExecutorService crawlExecutor;
+    private final Object crawlExecutorLock = new Object();
+    // failed reloads in a row per repository
+    private final Map<GitRepository, AtomicInteger> failures = new ConcurrentHashMap<>();
+    private final Map<GitRepository, Instant> lastFullSyncs = new ConcurrentHashMap<>();
+
+    public TagRefreshScheduler(final TagSource tagSource,
+            final VersionsSnapshotService snapshotService) {
+        this.tagSource = tagSource;
+        this.snapshotService = snapshotService;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!this.refreshEnabled) {
+            LOGGER.info("Background tag refresh is disabled");
+            return;
+        }
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "tag-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (final GitRepository repository : this.snapshotService
+                .getRepositories()) {
+            this.schedule(repository, this.refreshInterval);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+        if (this.crawlExecutor != null) {
+            this.crawlExecutor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.refreshEnabled;
+    }
+
+    /**
+     * Reloads the tags of the given repositories in the background right
+     * away, e.g. after outdated cache files were loaded at startup.
+     */
+    public void refreshInBackground(
+            final Collection<GitRepository> repositories) {
+        for (final GitRepository repository : repositories) {
+            this.crawlExecutor()
+                    .execute(() -> this.refresh(repository, false));
+        }
+    }
+
+    /**
+     * Reloads the tags of all repositories in parallel and publishes their new
+     * snapshots, waiting until all are done. Per repository the reload is a
+     * full resync if the last one is older than the full sync interval,
+     * otherwise an incremental one.
+     *
+     * @return {@code true} if all reloads succeeded, {@code false} if the
+     *         previous snapshot of at least one repository is still being
+     *         served
+     */
+    public synchronized boolean refreshNow() {
+        return this.refreshAll(false);
+    }
+
+    /**
+     * Walks all tag pages of all repositories again to pick up deleted or
+     * moved tags and publishes their new snapshots, waiting until all are
+     * done.
+     *
+     * @return {@code true} if all resyncs succeeded, {@code false} if the
+     *         previous snapshot of at least one repository is still being
+     *         served
+     */
+    public synchronized boolean fullResyncNow() {
+        return this.refreshAll(true);
+    }
+
+    private boolean refreshAll(final boolean forceFullSync) {
+        final List<Future<Boolean>> results = new ArrayList<>();
+        for (final GitRepository repository : this.snapshotService
+                .getRepositories()) {
+            results.add(this.crawlExecutor().submit(
+                    () -> this.refresh(repository, forceFullSync)));
+        }
+        boolean success = true;
+        try {
+            for (final Future<Boolean> result : results) {
+                success &= result.get();
+            }
+        } catch (InterruptedException e) {
+            results.forEach(result -> result.cancel(true));
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // refresh(...) handles its own failures
+            throw new IllegalStateException(e.getCause());
+        }
+        return success;
+    }
+
+    /**
+     * Reloads one repository and counts its failures in a row.
+     */
+    private boolean refresh(final GitRepository repository,
+            final boolean forceFullSync) {
+        final boolean success = this.reload(repository, forceFullSync);
+        final AtomicInteger repositoryFailures = this.failures
+                .computeIfAbsent(repository, key -> new AtomicInteger());
+        if (success) {
+            repositoryFailures.set(0);
+        } else {
+            LOGGER.warn("Background tag refresh of {} failed ({} in a row)",
+                    repository, repositoryFailures.incrementAndGet());
+        }
+        return success;
+    }
+
+    private boolean reload(final GitRepository repository,
+            final boolean forceFullSync) {
+        final Instant lastFullSync = this.lastFullSyncs.get(repository);
+        final boolean fullSync = forceFullSync || lastFullSync == null
+                || lastFullSync.plusSeconds(this.fullSyncInterval)
+                        .isBefore(Instant.now());
+        try {
+            final Instant started = Instant.now();
+            this.snapshotService.refresh(repository, this.tagSource
+                    .refreshTags(repository.owner(), repository.name(),
+                            fullSync));
+            if (fullSync) {
+                this.lastFullSyncs.put(repository, started);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Background tag refresh of {} failed", repository, e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ExecutorService crawlExecutor() {
+        ExecutorService result = this.crawlExecutor;
+        if (result == null) {
+            synchronized (this.crawlExecutorLock) {
+                result = this.crawlExecutor;
+                if (result == null) {
+                    final AtomicInteger threadCount = new AtomicInteger();
+                    result = Executors.newFixedThreadPool(
+                            Math.max(1, this.parallelism), r -> {
+                                final Thread thread = new Thread(r,
+                                        "tag-crawl-" + threadCount
+                                                .incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    this.crawlExecutor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the delay in seconds before the next reload attempt of the
+     * given repository.
+     */
+    long nextDelay(final GitRepository repository) {
+        final int repositoryFailures = this.getFailures(repository);
+        if (repositoryFailures == 0) {
+            return this.refreshInterval;
+        }
+        final int exponent = Math.min(repositoryFailures - 1, 30);
+        return Math.min(this.initialBackoff << exponent, this.maxBackoff);
+    }
+
+    int getFailures(final GitRepository repository) {
+        final AtomicInteger repositoryFailures = this.failures
+                .get(repository);
+        return repositoryFailures == null ? 0 : repositoryFailures.get();
+    }
+
+    private void run(final GitRepository repository) {
+        try {
+            this.refresh(repository, false);
+        } finally {
+            this.schedule(repository, this.nextDelay(repository));
+        }
+    }
+
+    private void schedule(final GitRepository repository, final long delay) {
+        if (this.executor.isShutdown()) {
+            return;
+        }
+        LOGGER.debug("Next tag refresh of {} in {} seconds", repository,
+                delay);
+        // the timer thread only hands the reload to the crawl threads
+        this.executor.schedule(() -> this.crawlExecutor()
+                .execute(() -> this.run(repository)), delay,
+                TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Source of the tags of a repository. {@link GitHubTagService} reads them
+ * from the GitHub GraphQL API, {@link JGitTagSource} from a local clone. The
+ * implementation is selected with {@code tagservice.source}.
+ * <p>
+ * Returned lists are new, mutable lists; callers may sort them.
+ */
+public interface TagSource {
+
+    /**
+     * Returns all tags of the repository, refreshing them first if the local
+     * data is outdated.
+     */
+    List<VersionDetails> fetchAllTags(String repoOwner, String repoName)
+            throws IOException, InterruptedException;
+
+    /**
+     * Returns the locally available tags of the repository regardless of
+     * their age, or {@code null} if there are none. Never goes to the
+     * network.
+     */
+    List<VersionDetails> fetchCachedTags(String repoOwner, String repoName);
+
+    /**
+     * Returns whether the local tags are recent enough to be served without a
+     * refresh.
+     */
+    boolean isCacheFresh(String repoOwner, String repoName);
+
+    /**
+     * Loads the tags of the repository from the remote regardless of the
+     * local state and returns all of them.
+     *
+     * @param fullSync
+     *            {@code true} to also pick up deleted or moved tags,
+     *            {@code false} to only fetch new tags
+     */
+    List<VersionDetails> refreshTags(String repoOwner, String repoName,
+            boolean fullSync) throws IOException, InterruptedException;
+
+}
@@ -3,10 +3,14 @@ package com.vaadin.platform.git;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class VersionDetails {
     private String version;
     private OffsetDateTime releasedOn;
     private String creator;
+    // parsed lazily from version, never serialized
+    private transient VersionKey key;
 
     public VersionDetails(final String version, final OffsetDateTime releasedOn,
             final String creator) {
@@ -37,6 +41,20 @@ public class VersionDetails {
 
     public void setVersion(final String version) {
         this.version = version;
+        this.key = null;
+    }
+
+    /**
+     * Returns the parsed form of the version, computed once on first access.
+     */
+    @JsonIgnore
+    public VersionKey getKey() {
+        VersionKey result = this.key;
+        if (result == null) {
+            result = VersionKey.parse(this.version);
+            this.key = result;
+        }
+        return result;
     }
 
     public void setReleasedOn(final OffsetDateTime releasedOn) {
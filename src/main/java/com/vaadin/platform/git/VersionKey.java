@@ -0,0 +1,222 @@
+package com.vaadin.platform.git;
+
+import java.util.Objects;
+
+/**
+ * Pre-parsed form of a version tag like {@code 24.7.0}, {@code 24.8.0-alpha3}
+ * or {@code 14.0.0.rc1}. Parsing happens once per {@link VersionDetails}, so
+ * sorting and grouping only compare plain ints.
+ * <p>
+ * Tags that do not follow the scheme are parsed leniently: missing or
+ * non-numeric parts count as {@code 0} and unknown qualifiers as a final
+ * release. A known qualifier followed by anything but digits, like
+ * {@code 24.8.0-alphaX}, still sorts as that qualifier but does not count for
+ * {@link #isPreRelease()}.
+ */
+public final class VersionKey implements Comparable<VersionKey> {
+
+    /**
+     * Qualifier of a version, in ascending release order.
+     */
+    public enum PreRelease {
+        SNAPSHOT("SNAPSHOT"), ALPHA("alpha"), BETA("beta"), RC("rc"), FINAL("");
+
+        private final String prefix;
+
+        private PreRelease(final String prefix) {
+            this.prefix = prefix;
+        }
+
+        private static PreRelease of(final String qualifier, final int start) {
+            for (final PreRelease kind : values()) {
+                if (kind != FINAL
+                        && qualifier.startsWith(kind.prefix, start)) {
+                    return kind;
+                }
+            }
+            return FINAL;
+        }
+    }
+
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final PreRelease preRelease;
+    private final int preReleaseNumber;
+    private final boolean leadsToRelease;
+
+    private VersionKey(final int major, final int minor, final int patch,
+            final PreRelease preRelease, final int preReleaseNumber,
+            final boolean leadsToRelease) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.preRelease = preRelease;
+        this.preReleaseNumber = preReleaseNumber;
+        this.leadsToRelease = leadsToRelease;
+    }
+
+    /**
+     * Parses a version tag without using regular expressions.
+     */
+    public static VersionKey parse(final String version) {
+        final int[] numbers = new int[3];
+        PreRelease preRelease = PreRelease.FINAL;
+        int preReleaseNumber = 0;
+        boolean qualified = false;
+        boolean endsWithQualifier = false;
+
+        final int length = version.length();
+        int segment = 0;
+        int pos = 0;
+        while (pos <= length) {
+            int end = pos;
+            while (end < length && version.charAt(end) != '.'
+                    && version.charAt(end) != '-') {
+                end++;
+            }
+            // leading digits of the segment
+            int digitsEnd = pos;
+            int value = 0;
+            while (digitsEnd < end && isDigit(version.charAt(digitsEnd))) {
+                value = value * 10 + (version.charAt(digitsEnd) - '0');
+                digitsEnd++;
+            }
+            if (segment < numbers.length && digitsEnd > pos) {
+                numbers[segment] = value;
+            }
+            // first non-numeric tail, e.g. "alpha1" or "0rc2"
+            if (!qualified && digitsEnd < end) {
+                qualified = true;
+                preRelease = PreRelease.of(version, digitsEnd);
+                preReleaseNumber = trailingNumber(version, digitsEnd, end);
+                endsWithQualifier = preRelease != PreRelease.FINAL
+                        && isDigits(version,
+                                digitsEnd + preRelease.prefix.length());
+            }
+            segment++;
+            pos = end + 1;
+        }
+        // same rule as the former .*(\.0|(SNAPSHOT|alpha|beta|rc)\d*)
+        final boolean leadsToRelease = endsWithQualifier
+                || version.endsWith(".0");
+        return new VersionKey(numbers[0], numbers[1], numbers[2], preRelease,
+                preReleaseNumber, leadsToRelease);
+    }
+
+    // whether the tag has only digits, if any, from start to its end
+    private static boolean isDigits(final String version, final int start) {
+        for (int i = start; i < version.length(); i++) {
+            if (!isDigit(version.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int trailingNumber(final String version, final int start,
+            final int end) {
+        int digitsStart = end;
+        while (digitsStart > start
+                && isDigit(version.charAt(digitsStart - 1))) {
+            digitsStart--;
+        }
+        int value = 0;
+        for (int i = digitsStart; i < end; i++) {
+            value = value * 10 + (version.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public int getMajor() {
+        return this.major;
+    }
+
+    public int getMinor() {
+        return this.minor;
+    }
+
+    public int getPatch() {
+        return this.patch;
+    }
+
+    public PreRelease getPreRelease() {
+        return this.preRelease;
+    }
+
+    public int getPreReleaseNumber() {
+        return this.preReleaseNumber;
+    }
+
+    /**
+     * Returns the "major.minor" version line this version belongs to, for
+     * example {@code 24.7}.
+     */
+    public String getMajorVersion() {
+        return this.major + "." + this.minor;
+    }
+
+    /**
+     * Returns whether this version leads up to a major release, i.e. it ends
+     * with a snapshot, alpha, beta or release candidate qualifier and an
+     * optional number, or it is the {@code .0} release itself.
+     */
+    public boolean isPreRelease() {
+        return this.leadsToRelease;
+    }
+
+    /**
+     * Returns whether both versions belong to the same "major.minor" line.
+     */
+    public boolean isSameMajorVersion(final VersionKey other) {
+        return this.major == other.major && this.minor == other.minor;
+    }
+
+    @Override
+    public int compareTo(final VersionKey other) {
+        int result = Integer.compare(this.major, other.major);
+        if (result == 0) {
+            result = Integer.compare(this.minor, other.minor);
+        }
+        if (result == 0) {
+            result = Integer.compare(this.patch, other.patch);
+        }
+        if (result == 0) {
+            result = this.preRelease.compareTo(other.preRelease);
+        }
+        if (result == 0) {
+            result = Integer.compare(this.preReleaseNumber,
+                    other.preReleaseNumber);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.major, this.minor, this.patch,
+                this.preRelease, this.preReleaseNumber);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof final VersionKey other)) {
+            return false;
+        }
+        return this.compareTo(other) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionKey [" + this.major + "." + this.minor + "."
+                + this.patch + " " + this.preRelease + this.preReleaseNumber
+                + "]";
+    }
+
+}
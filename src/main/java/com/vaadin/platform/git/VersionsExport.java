@@ -0,0 +1,185 @@
+package com.vaadin.platform.git;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes all versions of a snapshot to a stream in one of the export
+ * formats. Rows are written as they are read from the {@link ReleaseIndex}
+ * of the snapshot, so memory use does not grow with the number of tags: the
+ * XLSX writer keeps only a small window of rows in memory and flushes the
+ * rest to a temporary file.
+ */
+public final class VersionsExport {
+
+    public enum Format {
+        XLSX("xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                "Excel workbook"),
+        CSV("csv", "text/csv", "CSV"),
+        JSON_LINES("jsonl", "application/jsonl", "JSON Lines");
+
+        private final String extension;
+        private final String contentType;
+        private final String description;
+
+        private Format(final String extension, final String contentType,
+                final String description) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.description = description;
+        }
+
+        public String getExtension() {
+            return this.extension;
+        }
+
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        @Override
+        public String toString() {
+            return this.description;
+        }
+    }
+
+    // rows of the XLSX sheet kept in memory before flushing to disk
+    private static final int XLSX_WINDOW = 100;
+
+    private static final String[] HEADERS = { "Version", "Major Version",
+            "Released On", "Creator" };
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private VersionsExport() {
+    }
+
+    public static void write(final Format format, final ReleaseIndex index,
+            final OutputStream out) throws IOException {
+        switch (format) {
+        case XLSX -> writeXlsx(index, out);
+        case CSV -> writeCsv(index, out);
+        case JSON_LINES -> writeJsonLines(index, out);
+        }
+    }
+
+    private static void writeXlsx(final ReleaseIndex index,
+            final OutputStream out) throws IOException {
+        // closing the workbook also deletes its temporary files
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW)) {
+            workbook.setCompressTempFiles(true);
+            final SXSSFSheet sheet = workbook.createSheet("Vaadin Versions");
+            final CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper()
+                    .createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+
+            int rowIndex = 0;
+            final Row header = sheet.createRow(rowIndex++);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
+            for (int major = 0; major < index.majorCount(); major++) {
+                for (int i = index.start(major); i < index.end(major); i++) {
+                    final Row row = sheet.createRow(rowIndex++);
+                    row.createCell(0).setCellValue(index.version(i));
+                    row.createCell(1).setCellValue(index.majorVersion(major));
+                    row.createCell(2).setCellValue(
+                            index.releasedOnDate(i).toLocalDateTime());
+                    row.getCell(2).setCellStyle(dateStyle);
+                    if (index.creator(i) != null) {
+                        row.createCell(3).setCellValue(index.creator(i));
+                    }
+                }
+            }
+            // widths in 1/256 of a character
+            sheet.setColumnWidth(0, 20 * 256);
+            sheet.setColumnWidth(1, 15 * 256);
+            sheet.setColumnWidth(2, 18 * 256);
+            sheet.setColumnWidth(3, 25 * 256);
+            workbook.write(out);
+        }
+    }
+
+    private static void writeCsv(final ReleaseIndex index,
+            final OutputStream out) throws IOException {
+        final Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", HEADERS));
+        writer.write("\r\n");
+        for (int major = 0; major < index.majorCount(); major++) {
+            for (int i = index.start(major); i < index.end(major); i++) {
+                writer.write(csvField(index.version(i)));
+                writer.write(',');
+                writer.write(csvField(index.majorVersion(major)));
+                writer.write(',');
+                writer.write(index.releasedOnDate(i)
+                        .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+                writer.write(',');
+                writer.write(csvField(index.creator(i)));
+                writer.write("\r\n");
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Quotes a value if it contains a separator, quote or line break, as
+     * described in RFC 4180. Values that a spreadsheet would read as a
+     * formula, such as a creator name starting with {@code =}, are prefixed
+     * with {@code '} so they are shown as text.
+     */
+    static String csvField(final String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    private static void writeJsonLines(final ReleaseIndex index,
+            final OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out,
+                JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (int major = 0; major < index.majorCount(); major++) {
+                for (int i = index.start(major); i < index.end(major); i++) {
+                    generator.writeStartObject();
+                    generator.writeStringField("version", index.version(i));
+                    generator.writeStringField("majorVersion",
+                            index.majorVersion(major));
+                    generator.writeStringField("releasedOn",
+                            index.releasedOnDate(i).format(
+                                    DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+                    generator.writeStringField("creator", index.creator(i));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.vaadin.platform.git;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Read-only result of one consolidation run for one repository. A snapshot is
+ * shared between all views, so neither the list nor its entries may be
+ * modified by readers.
+ */
+public final class VersionsSnapshot {
+    private final GitRepository repository;
+    private final List<MajorVersionInfo> versionsInfo;
+    private final Instant createdAt;
+    private volatile ReleaseIndex index;
+    private volatile ReleaseHistogram histogram;
+    private volatile VersionsTable table;
+    private volatile String fingerprint;
+
+    public VersionsSnapshot(final GitRepository repository,
+            final List<MajorVersionInfo> versionsInfo,
+            final Instant createdAt) {
+        this.repository = repository;
+        this.versionsInfo = Collections.unmodifiableList(versionsInfo);
+        this.createdAt = createdAt;
+    }
+
+    public GitRepository getRepository() {
+        return this.repository;
+    }
+
+    public List<MajorVersionInfo> getVersionsInfo() {
+        return this.versionsInfo;
+    }
+
+    public Instant getCreatedAt() {
+        return this.createdAt;
+    }
+
+    /**
+     * Returns the columnar index of all versions of the snapshot. Consolidated
+     * data shares one index that is returned as is; otherwise it is built on
+     * first access.
+     */
+    public ReleaseIndex getIndex() {
+        ReleaseIndex result = this.index;
+        if (result == null) {
+            result = this.versionsInfo.isEmpty() ? null
+                    : this.versionsInfo.get(0).getIndex();
+            for (final MajorVersionInfo info : this.versionsInfo) {
+                if (info.getIndex() != result) {
+                    result = ReleaseIndex.of(this.versionsInfo.stream()
+                            .flatMap(item -> item.getAllVersions().stream())
+                            .toList());
+                    break;
+                }
+            }
+            if (result == null) {
+                result = ReleaseIndex.of(List.of());
+            }
+            this.index = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the release counts of the snapshot per time bucket, built on
+     * first access.
+     */
+    public ReleaseHistogram getHistogram() {
+        ReleaseHistogram result = this.histogram;
+        if (result == null) {
+            result = ReleaseHistogram.of(this.getIndex());
+            this.histogram = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns all versions of the snapshot as one table, created on first
+     * access.
+     */
+    public VersionsTable getTable() {
+        VersionsTable result = this.table;
+        if (result == null) {
+            result = new VersionsTable(this.getIndex());
+            this.table = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a hash of all versions of the snapshot, computed on first
+     * access. Snapshots with the same versions, release times and creators
+     * have the same fingerprint, no matter when they were created.
+     */
+    public String getFingerprint() {
+        String result = this.fingerprint;
+        if (result == null) {
+            final MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            final ReleaseIndex releaseIndex = this.getIndex();
+            for (int i = 0; i < releaseIndex.size(); i++) {
+                digest.update((releaseIndex.version(i) + '\0'
+                        + releaseIndex.releasedOnDate(i) + '\0'
+                        + releaseIndex.creator(i) + '\n')
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            // 128 bits are plenty to tell snapshots apart
+            result = HexFormat.of()
+                    .formatHex(Arrays.copyOf(digest.digest(), 16));
+            this.fingerprint = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionsSnapshot [repository=" + this.repository
+                + ", majorVersions=" + this.versionsInfo.size()
+                + ", createdAt=" + this.createdAt + "]";
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Holds the application wide {@link VersionsSnapshot} of every configured
+ * repository. The consolidated data is computed once per data refresh and the
+ * same instance is handed out to every view. Refreshes are driven by
+ * {@link TagRefreshScheduler} and swapped in atomically, so readers never wait
+ * for a running refresh once the first snapshot of a repository exists. Every
+ * published snapshot is also sent as an application event.
+ * <p>
+ * With {@code tagservice.refresh.enabled=false} there are no background
+ * refreshes; an expired snapshot is then recomputed by a single caller while
+ * all others keep getting the previous one.
+ */
+@Service
+public class VersionsSnapshotService {
+    private static final Logger LOGGER = LogManager
+            .getLogger(VersionsSnapshotService.class);
+
+    @Value("${tagservice.refresh.enabled}")
+    private boolean backgroundRefresh = true;
+
+    @Value("${tagservice.tagcache.maxAge}")
+    private long maxAge;
+
+    private final GitService gitService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<GitRepository> repositories;
+
+    private final Map<GitRepository, VersionsSnapshot> current = new ConcurrentHashMap<>();
+    // one lock per repository, so repositories load independently
+    private final Map<GitRepository, Object> locks = new HashMap<>();
+    private final Map<GitRepository, AtomicBoolean> refreshing = new HashMap<>();
+
+    public VersionsSnapshotService(final GitService gitService,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${github.repositories}") final String repositories) {
+        this.gitService = gitService;
+        this.eventPublisher = eventPublisher;
+        this.repositories = GitRepository.parseList(repositories);
+        if (this.repositories.isEmpty()) {
+            throw new IllegalStateException(
+                    "No repositories configured in github.repositories");
+        }
+        for (final GitRepository repository : this.repositories) {
+            this.locks.put(repository, new Object());
+            this.refreshing.put(repository, new AtomicBoolean());
+        }
+    }
+
+    /**
+     * Returns the configured repositories, the first one being the default.
+     */
+    public List<GitRepository> getRepositories() {
+        return this.repositories;
+    }
+
+    /**
+     * Returns the current snapshot of the default repository.
+     */
+    public VersionsSnapshot getSnapshot()
+            throws IOException, InterruptedException {
+        return this.getSnapshot(this.repositories.get(0));
+    }
+
+    /**
+     * Returns the current snapshot of the given repository. Only the very
+     * first call per repository computes the data on the calling thread, and
+     * without background refreshes the first call after it has expired.
+     */
+    public VersionsSnapshot getSnapshot(final GitRepository repository)
+            throws IOException, InterruptedException {
+        VersionsSnapshot snapshot = this.current.get(repository);
+        if (snapshot == null) {
+            synchronized (this.lock(repository)) {
+                snapshot = this.current.get(repository);
+                if (snapshot == null) {
+                    snapshot = this.refresh(repository);
+                }
+            }
+        } else if (!this.backgroundRefresh && this.isExpired(snapshot)) {
+            snapshot = this.refreshExpired(snapshot);
+        }
+        return snapshot;
+    }
+
+    private VersionsSnapshot refreshExpired(final VersionsSnapshot snapshot)
+            throws InterruptedException {
+        final AtomicBoolean repositoryRefreshing = this.refreshing
+                .get(snapshot.getRepository());
+        if (!repositoryRefreshing.compareAndSet(false, true)) {
+            return snapshot;
+        }
+        try {
+            return this.refresh(snapshot.getRepository());
+        } catch (IOException e) {
+            LOGGER.warn("Refreshing versions snapshot failed, serving {}",
+                    snapshot, e);
+            return snapshot;
+        } finally {
+            repositoryRefreshing.set(false);
+        }
+    }
+
+    private boolean isExpired(final VersionsSnapshot snapshot) {
+        return snapshot.getCreatedAt().plusSeconds(this.maxAge)
+                .isBefore(Instant.now());
+    }
+
+    /**
+     * Returns the current snapshot of the given repository without computing
+     * it.
+     */
+    public Optional<VersionsSnapshot> findSnapshot(
+            final GitRepository repository) {
+        return Optional.ofNullable(this.current.get(repository));
+    }
+
+    /**
+     * Publishes the first snapshot of the given repository from its cached
+     * tags, whatever their age, and only crawls if nothing is cached. Does
+     * nothing if the repository already has a snapshot.
+     *
+     * @return {@code true} if the published data is older than the tag cache
+     *         maximum age and should be refreshed
+     */
+    public boolean warmUp(final GitRepository repository)
+            throws IOException, InterruptedException {
+        synchronized (this.lock(repository)) {
+            if (this.current.containsKey(repository)) {
+                return false;
+            }
+            final boolean fresh = this.gitService.isCacheFresh(repository);
+            final List<MajorVersionInfo> cached = this.gitService
+                    .cachedVersionsInfo(repository);
+            if (cached == null) {
+                this.refresh(repository);
+                return false;
+            }
+            this.publish(new VersionsSnapshot(repository, cached,
+                    Instant.now()));
+            return !fresh;
+        }
+    }
+
+    /**
+     * Recomputes the consolidated data of the given repository and publishes
+     * it as its current snapshot.
+     */
+    public VersionsSnapshot refresh(final GitRepository repository)
+            throws IOException, InterruptedException {
+        synchronized (this.lock(repository)) {
+            final VersionsSnapshot snapshot = new VersionsSnapshot(repository,
+                    this.gitService.consolidatedVersionsInfo(repository),
+                    Instant.now());
+            this.publish(snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Consolidates the given freshly loaded tags of the repository and
+     * publishes them as its current snapshot, so a background reload does not
+     * read the tags a second time.
+     */
+    public VersionsSnapshot refresh(final GitRepository repository,
+            final List<VersionDetails> tags) {
+        synchronized (this.lock(repository)) {
+            final VersionsSnapshot snapshot = new VersionsSnapshot(repository,
+                    this.gitService.consolidatedVersionsInfo(repository, tags),
+                    Instant.now());
+            this.publish(snapshot);
+            return snapshot;
+        }
+    }
+
+    private void publish(final VersionsSnapshot snapshot) {
+        this.current.put(snapshot.getRepository(), snapshot);
+        LOGGER.info("Published {}", snapshot);
+        this.eventPublisher.publishEvent(snapshot);
+    }
+
+    private Object lock(final GitRepository repository) {
+        final Object lock = this.locks.get(repository);
+        if (lock == null) {
+            throw new IllegalArgumentException(
+                    "Repository " + repository + " is not configured");
+        }
+        return lock;
+    }
+
+}
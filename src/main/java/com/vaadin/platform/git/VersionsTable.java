@@ -0,0 +1,214 @@
+package com.vaadin.platform.git;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Flat list of all versions of a snapshot for the raw data views. Rows are
+ * filtered and sorted on the server and returned page by page, so a view
+ * only transfers the rows it shows. Filtering and sorting work on positions
+ * in the {@link ReleaseIndex} of the snapshot; only the rows of a returned
+ * page are created.
+ * <p>
+ * The positions of recent queries are cached per filter and sort order, so
+ * consecutive page requests of several views do not evict each other.
+ * Instances are immutable apart from that cache and shared between views.
+ */
+public final class VersionsTable {
+
+    // distinct filter and sort combinations kept
+    private static final int CACHE_SIZE = 64;
+
+    public enum Column {
+        VERSION, MAJOR_VERSION, CREATOR, RELEASED_ON;
+
+        private int compare(final ReleaseIndex index, final int a,
+                final int b) {
+            return switch (this) {
+            case VERSION -> Integer.compare(index.versionRank(a),
+                    index.versionRank(b));
+            case MAJOR_VERSION -> {
+                final int result = Integer.compare(index.major(a),
+                        index.major(b));
+                yield result != 0 ? result
+                        : Integer.compare(index.minor(a), index.minor(b));
+            }
+            case CREATOR -> compareCreators(index.creator(a),
+                    index.creator(b));
+            case RELEASED_ON -> Long.compare(index.releasedOn(a),
+                    index.releasedOn(b));
+            };
+        }
+
+        // nulls first, then case-insensitive
+        private static int compareCreators(final String a, final String b) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : -1) : 1;
+            }
+            return String.CASE_INSENSITIVE_ORDER.compare(a, b);
+        }
+    }
+
+    /**
+     * Sort order of one column.
+     */
+    public record Sort(Column column, boolean descending) {
+    }
+
+    /**
+     * Criteria a row has to match, {@code null} criteria match all rows.
+     * Version and creator match case-insensitive parts, the date range
+     * includes both ends.
+     */
+    public record Filter(String version, String majorVersion, String creator,
+            LocalDate from, LocalDate to) {
+
+        public static final Filter NONE = new Filter(null, null, null, null,
+                null);
+
+        boolean test(final ReleaseIndex index, final int i) {
+            if (this.version != null
+                    && !contains(index.version(i), this.version)) {
+                return false;
+            }
+            if (this.creator != null && (index.creator(i) == null
+                    || !contains(index.creator(i), this.creator))) {
+                return false;
+            }
+            final long releasedOn = index.releasedOnEpochDay(i);
+            return (this.from == null || releasedOn >= this.from.toEpochDay())
+                    && (this.to == null || releasedOn <= this.to.toEpochDay());
+        }
+
+        private static boolean contains(final String value,
+                final String part) {
+            for (int start = 0; start <= value.length()
+                    - part.length(); start++) {
+                if (value.regionMatches(true, start, part, 0,
+                        part.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Query(Filter filter, List<Sort> sorts) {
+    }
+
+    private final ReleaseIndex index;
+    // positions in the index matching a filter, in the order of the sorts
+    private final Cache<Query, int[]> results = Caffeine.newBuilder()
+            .maximumSize(CACHE_SIZE).build();
+
+    VersionsTable(final ReleaseIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns the number of rows matching the filter.
+     */
+    public int count(final Filter filter) {
+        return this.filter(filter).length;
+    }
+
+    /**
+     * Returns one page of the rows matching the filter. Without sort orders
+     * the rows are in the order of the snapshot, by major version and then
+     * by release date.
+     */
+    public List<VersionDetails> fetch(final Filter filter,
+            final List<Sort> sorts, final int offset, final int limit) {
+        final int[] positions = this.sort(filter, sorts);
+        final int from = Math.min(offset, positions.length);
+        final int to = Math.min(from + limit, positions.length);
+        final List<VersionDetails> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(this.index.details(positions[i]));
+        }
+        return page;
+    }
+
+    private int[] filter(final Filter filter) {
+        return this.results.get(new Query(filter, List.of()),
+                query -> this.matching(filter));
+    }
+
+    private int[] matching(final Filter filter) {
+        int start = 0;
+        int end = this.index.size();
+        if (filter.majorVersion() != null) {
+            final int major = this.index.indexOf(filter.majorVersion());
+            if (major < 0) {
+                return new int[0];
+            }
+            start = this.index.start(major);
+            end = this.index.end(major);
+        }
+        final int[] result = new int[end - start];
+        int size = 0;
+        for (int i = start; i < end; i++) {
+            if (filter.test(this.index, i)) {
+                result[size++] = i;
+            }
+        }
+        return size == result.length ? result
+                : Arrays.copyOf(result, size);
+    }
+
+    private int[] sort(final Filter filter, final List<Sort> sorts) {
+        if (sorts.isEmpty()) {
+            return this.filter(filter);
+        }
+        // not computed inside the mapping function, which must not update
+        // the cache itself
+        final int[] filtered = this.filter(filter);
+        return this.results.get(new Query(filter, List.copyOf(sorts)),
+                query -> {
+                    final int[] positions = filtered.clone();
+                    this.mergeSort(positions, query.sorts());
+                    return positions;
+                });
+    }
+
+    private int compare(final List<Sort> sorts, final int a, final int b) {
+        for (final Sort sort : sorts) {
+            final int result = sort.column().compare(this.index, a, b);
+            if (result != 0) {
+                return sort.descending() ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    // stable, so equal rows keep the order of the snapshot
+    private void mergeSort(final int[] positions, final List<Sort> sorts) {
+        final int[] buffer = new int[positions.length];
+        for (int width = 1; width < positions.length; width *= 2) {
+            for (int left = 0; left < positions.length - width; left += 2
+                    * width) {
+                final int middle = left + width;
+                final int right = Math.min(left + 2 * width,
+                        positions.length);
+                int a = left;
+                int b = middle;
+                int out = left;
+                while (a < middle && b < right) {
+                    buffer[out++] = this.compare(sorts, positions[b],
+                            positions[a]) < 0 ? positions[b++]
+                                    : positions[a++];
+                }
+                System.arraycopy(positions, a, buffer, out, middle - a);
+                out += middle - a;
+                System.arraycopy(positions, b, buffer, out, right - b);
+                System.arraycopy(buffer, left, positions, left, right - left);
+            }
+        }
+    }
+
+}
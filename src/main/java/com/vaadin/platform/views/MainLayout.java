@@ -5,9 +5,14 @@ import java.util.Objects;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasElement;
 import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.RouterLayout;
+import com.vaadin.flow.router.RouterLink;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import com.vaadin.platform.views.cadence.CadenceView;
+import com.vaadin.platform.views.releases.ReleasesView;
 
 /**
  * The main view is a top-level placeholder for other views.
@@ -22,7 +27,11 @@ public class MainLayout extends VerticalLayout implements RouterLayout {
         this.setWidthFull();
 
         this.viewTitle = new H2();
-        this.add(this.viewTitle);
+        final HorizontalLayout header = new HorizontalLayout(this.viewTitle,
+                new RouterLink("Releases", ReleasesView.class),
+                new RouterLink("Cadence", CadenceView.class));
+        header.addClassName(LumoUtility.AlignItems.BASELINE);
+        this.add(header);
     }
 
     @Override
@@ -0,0 +1,263 @@
+package com.vaadin.platform.views.cadence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.charts.Chart;
+import com.vaadin.flow.component.charts.events.XAxesExtremesSetEvent;
+import com.vaadin.flow.component.charts.model.AxisType;
+import com.vaadin.flow.component.charts.model.ChartType;
+import com.vaadin.flow.component.charts.model.Configuration;
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.Dimension;
+import com.vaadin.flow.component.charts.model.PanKey;
+import com.vaadin.flow.component.charts.model.PlotOptionsColumn;
+import com.vaadin.flow.component.charts.model.Series;
+import com.vaadin.flow.component.charts.model.Stacking;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import com.vaadin.platform.git.GitRepository;
+import com.vaadin.platform.git.ReleaseHistogram;
+import com.vaadin.platform.git.ReleaseHistogram.Resolution;
+import com.vaadin.platform.git.ReleaseHistogram.Slice;
+import com.vaadin.platform.git.VersionsSnapshot;
+import com.vaadin.platform.git.VersionsSnapshotService;
+import com.vaadin.platform.views.MainLayout;
+import com.vaadin.platform.views.releases.SnapshotBroadcaster;
+
+/**
+ * Release throughput over time across all major versions, as columns per
+ * time bucket stacked by major version. The counts come from the
+ * {@link ReleaseHistogram} of the snapshot. Only the buckets around the shown
+ * range are sent to the browser, coarse ones for wide ranges and finer ones
+ * once the user zooms in, so the chart payload stays small.
+ */
+@PageTitle("Release Cadence")
+@Route(value = "cadence", layout = MainLayout.class)
+public class CadenceView extends VerticalLayout {
+
+    // most buckets shown at once when the resolution is chosen automatically
+    private static final int MAX_BUCKETS = 120;
+
+    private final VersionsSnapshotService snapshotService;
+    private final SnapshotBroadcaster snapshotBroadcaster;
+
+    private GitRepository repository;
+    private ReleaseHistogram histogram;
+
+    private final Chart chart = new Chart(ChartType.COLUMN);
+    private final Select<Resolution> resolutionSelect = new Select<>();
+    // shown range in epoch milliseconds, null to show all releases
+    private Long shownFrom;
+    private Long shownTo;
+    // buckets sent to the browser
+    private Slice loaded;
+    private Registration snapshotRegistration;
+
+    public CadenceView(final VersionsSnapshotService snapshotService,
+            final SnapshotBroadcaster snapshotBroadcaster)
+            throws IOException, InterruptedException {
+        this.snapshotService = snapshotService;
+        this.snapshotBroadcaster = snapshotBroadcaster;
+
+        final VersionsSnapshot snapshot = snapshotService.getSnapshot();
+        this.repository = snapshot.getRepository();
+        this.histogram = snapshot.getHistogram();
+        this.init();
+        this.setHeightFull();
+        this.setWidthFull();
+    }
+
+    private void init() {
+        final Configuration configuration = this.chart.getConfiguration();
+        configuration.getChart().setZoomType(Dimension.X);
+        configuration.getChart().setPanning(true);
+        configuration.getChart().setPanKey(PanKey.SHIFT);
+        configuration.getxAxis().setType(AxisType.DATETIME);
+        configuration.getyAxis().setTitle("Number of releases");
+        configuration.getTooltip().setEnabled(true);
+        configuration.getTooltip().setShared(true);
+
+        final PlotOptionsColumn options = new PlotOptionsColumn();
+        options.setStacking(Stacking.NORMAL);
+        options.setPointPadding(0);
+        options.setGroupPadding(0.05);
+        options.setBorderWidth(0);
+        configuration.setPlotOptions(options);
+
+        this.chart.addXAxesExtremesSetListener(this::extremesChanged);
+        this.chart.setHeightFull();
+        this.chart.setWidthFull();
+
+        this.resolutionSelect.setLabel("Releases per");
+        this.resolutionSelect.setItems(Resolution.values());
+        this.resolutionSelect.setEmptySelectionAllowed(true);
+        this.resolutionSelect.setEmptySelectionCaption("automatic");
+        this.resolutionSelect
+                .addValueChangeListener(event -> this.showRange());
+
+        final var header = new HorizontalLayout();
+        final List<GitRepository> repositories = this.snapshotService
+                .getRepositories();
+        if (repositories.size() > 1) {
+            final Select<GitRepository> repositorySelect = new Select<>();
+            repositorySelect.setLabel("Repository");
+            repositorySelect.setItems(repositories);
+            repositorySelect.setValue(this.repository);
+            repositorySelect.addValueChangeListener(
+                    event -> this.showRepository(event.getValue()));
+            header.add(repositorySelect);
+        }
+        header.add(this.resolutionSelect,
+                new Button("Show all releases", event -> {
+                    this.shownFrom = null;
+                    this.shownTo = null;
+                    this.showRange();
+                }));
+        header.addClassName(LumoUtility.AlignItems.BASELINE);
+
+        this.add(header, this.chart);
+        this.showRange();
+    }
+
+    @Override
+    protected void onAttach(final AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        final UI ui = attachEvent.getUI();
+        this.snapshotRegistration = this.snapshotBroadcaster
+                .register(snapshot -> ui.access(() -> this.update(snapshot)));
+    }
+
+    @Override
+    protected void onDetach(final DetachEvent detachEvent) {
+        this.snapshotRegistration.remove();
+        super.onDetach(detachEvent);
+    }
+
+    private void update(final VersionsSnapshot snapshot) {
+        if (snapshot.getRepository().equals(this.repository)) {
+            this.histogram = snapshot.getHistogram();
+            this.loaded = null;
+            this.showRange();
+        }
+    }
+
+    private void showRepository(final GitRepository repository) {
+        final VersionsSnapshot snapshot;
+        try {
+            snapshot = this.snapshotService.getSnapshot(repository);
+        } catch (final IOException e) {
+            Notification.show("Failed to load releases of " + repository);
+            return;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        this.repository = repository;
+        this.histogram = snapshot.getHistogram();
+        this.shownFrom = null;
+        this.shownTo = null;
+        this.showRange();
+    }
+
+    /**
+     * Follows zooming and panning in the browser. Buckets are only loaded
+     * again once the range leaves the loaded buckets or needs another
+     * resolution.
+     */
+    private void extremesChanged(final XAxesExtremesSetEvent event) {
+        if (Double.isNaN(event.getMinimum())
+                || Double.isNaN(event.getMaximum())) {
+            // zoom was reset
+            this.shownFrom = null;
+            this.shownTo = null;
+        } else {
+            this.shownFrom = (long) event.getMinimum();
+            this.shownTo = (long) event.getMaximum();
+        }
+        if (this.histogram.isEmpty()) {
+            // nothing to load, the range has no first or last week
+            return;
+        }
+        final long from = this.from();
+        final long to = this.to();
+        if (this.loaded == null || this.loaded.resolution() != this
+                .resolution(from, to) || from < this.loaded.from()
+                || to > this.loaded.to()) {
+            this.showRange();
+        }
+    }
+
+    // only valid for a histogram with releases
+    private long from() {
+        return this.shownFrom == null ? this.histogram.getFrom()
+                : this.shownFrom;
+    }
+
+    private long to() {
+        return this.shownTo == null ? this.histogram.getTo() : this.shownTo;
+    }
+
+    private Resolution resolution(final long from, final long to) {
+        final Resolution selected = this.resolutionSelect.getValue();
+        return selected != null ? selected
+                : this.histogram.resolutionFor(from, to, MAX_BUCKETS);
+    }
+
+    /**
+     * Sends the buckets of the shown range to the browser. Half the range is
+     * added on both sides, so short pans do not need a round trip.
+     */
+    private void showRange() {
+        final Configuration configuration = this.chart.getConfiguration();
+        if (this.histogram.isEmpty()) {
+            configuration.setSeries(List.of());
+            configuration.setTitle("No releases in " + this.repository);
+            this.loaded = null;
+            this.chart.drawChart(true);
+            return;
+        }
+        final long from = this.from();
+        final long to = this.to();
+        final Resolution resolution = this.resolution(from, to);
+        final long margin = this.shownFrom == null ? 0 : (to - from) / 2;
+        this.loaded = this.histogram.slice(resolution, from - margin,
+                to + margin);
+
+        final List<Series> seriesList = new ArrayList<>();
+        for (int major = 0; major < this.loaded.majorVersions()
+                .size(); major++) {
+            final int[] counts = this.loaded.counts().get(major);
+            final DataSeries series = new DataSeries(
+                    this.loaded.majorVersions().get(major));
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                // empty buckets are left out to keep the payload small
+                if (counts[bucket] > 0) {
+                    series.add(new DataSeriesItem(
+                            this.loaded.bucketStarts()[bucket],
+                            counts[bucket]));
+                }
+            }
+            seriesList.add(series);
+        }
+        configuration.setSeries(seriesList);
+        configuration.setTitle("Releases of " + this.repository + " per "
+                + resolution);
+        configuration.getxAxis().setMin(this.shownFrom);
+        configuration.getxAxis().setMax(this.shownTo);
+        this.chart.drawChart(true);
+    }
+
+}
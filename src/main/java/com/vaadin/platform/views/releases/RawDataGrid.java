@@ -0,0 +1,107 @@
+package com.vaadin.platform.views.releases;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import com.vaadin.platform.git.MajorVersionInfo;
+import com.vaadin.platform.git.VersionDetails;
+import com.vaadin.platform.git.VersionsTable;
+
+/**
+ * Grid of all versions with filters. Rows are fetched lazily from a
+ * {@link VersionsTable}, which filters and sorts on the server, so the
+ * browser only receives the rows in view.
+ */
+public class RawDataGrid extends VerticalLayout {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm");
+
+    private final VersionsTable table;
+
+    private final TextField version = new TextField("Version");
+    private final ComboBox<String> majorVersion = new ComboBox<>("Major");
+    private final TextField creator = new TextField("Creator");
+    private final DatePicker from = new DatePicker("Released from");
+    private final DatePicker to = new DatePicker("Released to");
+    private final Grid<VersionDetails> grid = new Grid<>();
+
+    public RawDataGrid(final VersionsTable table,
+            final List<MajorVersionInfo> consolidatedVersionsInfo) {
+        this.table = table;
+
+        this.majorVersion.setItems(consolidatedVersionsInfo.stream()
+                .map(MajorVersionInfo::getMajorVersion).toList());
+        this.majorVersion.setClearButtonVisible(true);
+        for (final TextField field : List.of(this.version, this.creator)) {
+            field.setValueChangeMode(ValueChangeMode.LAZY);
+            field.setClearButtonVisible(true);
+        }
+        this.version.addValueChangeListener(event -> this.refresh());
+        this.majorVersion.addValueChangeListener(event -> this.refresh());
+        this.creator.addValueChangeListener(event -> this.refresh());
+        this.from.addValueChangeListener(event -> this.refresh());
+        this.to.addValueChangeListener(event -> this.refresh());
+
+        this.grid.addColumn(VersionDetails::getVersion).setHeader("Version")
+                .setSortProperty(VersionsTable.Column.VERSION.name());
+        this.grid.addColumn(item -> item.getKey().getMajorVersion())
+                .setHeader("Major")
+                .setSortProperty(VersionsTable.Column.MAJOR_VERSION.name());
+        this.grid.addColumn(item -> item.getReleasedOn().format(DATE_FORMAT))
+                .setHeader("Released On")
+                .setSortProperty(VersionsTable.Column.RELEASED_ON.name());
+        this.grid.addColumn(VersionDetails::getCreator).setHeader("Creator")
+                .setSortProperty(VersionsTable.Column.CREATOR.name());
+        this.grid.setMultiSort(true);
+        this.grid.setItems(
+                query -> this.table.fetch(this.filter(),
+                        sorts(query.getSortOrders()), query.getOffset(),
+                        query.getLimit()).stream(),
+                query -> this.table.count(this.filter()));
+        this.grid.setSizeFull();
+
+        final var filters = new HorizontalLayout(this.version,
+                this.majorVersion, this.creator, this.from, this.to);
+        filters.addClassName(LumoUtility.FlexWrap.WRAP);
+        this.add(filters);
+        this.addAndExpand(this.grid);
+        this.setPadding(false);
+        this.setSizeFull();
+    }
+
+    private void refresh() {
+        this.grid.getDataProvider().refreshAll();
+    }
+
+    private VersionsTable.Filter filter() {
+        return new VersionsTable.Filter(blankToNull(this.version.getValue()),
+                this.majorVersion.getValue(),
+                blankToNull(this.creator.getValue()), this.from.getValue(),
+                this.to.getValue());
+    }
+
+    private static String blankToNull(final String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static List<VersionsTable.Sort> sorts(
+            final List<QuerySortOrder> sortOrders) {
+        return sortOrders.stream()
+                .map(order -> new VersionsTable.Sort(
+                        VersionsTable.Column.valueOf(order.getSorted()),
+                        order.getDirection() == SortDirection.DESCENDING))
+                .toList();
+    }
+
+}
@@ -1,52 +1,83 @@
 package com.vaadin.platform.views.releases;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
 
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.charts.Chart;
 import com.vaadin.flow.component.charts.events.PointClickEvent;
+import com.vaadin.flow.component.contextmenu.SubMenu;
 import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.menubar.MenuBar;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.radiobutton.RadioButtonGroup;
-import com.vaadin.flow.component.spreadsheet.Spreadsheet;
+import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.StreamRegistration;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
-import com.vaadin.platform.git.GitHubService;
-import com.vaadin.platform.git.GitService;
+import com.vaadin.platform.git.GitRepository;
 import com.vaadin.platform.git.MajorVersionInfo;
+import com.vaadin.platform.git.ReleaseIndex;
+import com.vaadin.platform.git.ReleaseNotesRenderer;
+import com.vaadin.platform.git.VersionsExport;
+import com.vaadin.platform.git.VersionsSnapshot;
+import com.vaadin.platform.git.VersionsSnapshotService;
+import com.vaadin.platform.git.VersionsTable;
 import com.vaadin.platform.views.MainLayout;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @PageTitle("Platform Releases")
 @Route(value = "", layout = MainLayout.class)
 public class ReleasesView extends VerticalLayout {
-    private final GitService gitService;
-    private final GitHubService gitHubService;
+    private final VersionsSnapshotService snapshotService;
+    private final ReleaseNotesRenderer releaseNotesRenderer;
+    private final SnapshotBroadcaster snapshotBroadcaster;
+    private final MeterRegistry meterRegistry;
 
-    private final List<MajorVersionInfo> consolidatedVersionsInfo;
+    private GitRepository repository;
+    private List<MajorVersionInfo> consolidatedVersionsInfo;
+    private VersionsTable versionsTable;
+    private ReleaseIndex releaseIndex;
 
     private boolean isPre = false;
 
     private VersionsTimelineChart versionsTimelineChart;
     private HorizontalLayout chartArea;
+    private RadioButtonGroup<ChartChoice> radioGroup;
+
+    // charts created so far, kept alive and updated with new snapshots
+    private final Map<GitRepository, Map<ChartChoice, Chart>> charts = new HashMap<>();
+    private Registration snapshotRegistration;
 
-    public ReleasesView(final GitService gitService,
-            final GitHubService gitHubService)
+    public ReleasesView(final VersionsSnapshotService snapshotService,
+            final ReleaseNotesRenderer releaseNotesRenderer,
+            final SnapshotBroadcaster snapshotBroadcaster,
+            final MeterRegistry meterRegistry)
             throws IOException, InterruptedException {
-        this.gitService = gitService;
-        this.gitHubService = gitHubService;
+        this.snapshotService = snapshotService;
+        this.releaseNotesRenderer = releaseNotesRenderer;
+        this.snapshotBroadcaster = snapshotBroadcaster;
+        this.meterRegistry = meterRegistry;
 
-        this.consolidatedVersionsInfo = this.gitService
-                .consolidatedVersionsInfo();
+        final VersionsSnapshot snapshot = snapshotService.getSnapshot();
+        this.repository = snapshot.getRepository();
+        this.consolidatedVersionsInfo = snapshot.getVersionsInfo();
+        this.versionsTable = snapshot.getTable();
+        this.releaseIndex = snapshot.getIndex();
         this.init();
         this.setHeightFull();
         this.setWidthFull();
@@ -60,111 +91,185 @@ public class ReleasesView extends VerticalLayout {
         final MajorVersionInfo majorVersionInfo = this.consolidatedVersionsInfo
                 .get(consolidatedVersionsInfo.size() - 1);
         this.versionsTimelineChart = new VersionsTimelineChart(
-                this.gitHubService, majorVersionInfo);
-
-        final var radioGroup = new RadioButtonGroup<ChartChoice>();
-        radioGroup.setLabel("Chart Type");
-        radioGroup.setItems(ChartChoice.values());
-        radioGroup.addValueChangeListener(event -> {
-            this.chartArea.removeAll();
-            final var chart = switch (event.getValue()) {
+                this.releaseNotesRenderer, this.repository, majorVersionInfo);
+
+        this.radioGroup = new RadioButtonGroup<>();
+        this.radioGroup.setLabel("Chart Type");
+        this.radioGroup.setItems(ChartChoice.values());
+        this.radioGroup.addValueChangeListener(
+                event -> this.showChart(event.getValue()));
+        this.radioGroup.setValue(ChartChoice.BY_PRE_RELEASE_COUNT);
+
+        final var header = new HorizontalLayout();
+        final List<GitRepository> repositories = this.snapshotService
+                .getRepositories();
+        if (repositories.size() > 1) {
+            final Select<GitRepository> repositorySelect = new Select<>();
+            repositorySelect.setLabel("Repository");
+            repositorySelect.setItems(repositories);
+            repositorySelect.setValue(this.repository);
+            repositorySelect.addValueChangeListener(
+                    event -> this.showRepository(event.getValue()));
+            header.add(repositorySelect);
+        }
+        header.addAndExpand(this.radioGroup);
+        header.add(this.viewButton(), this.exportMenu());
+        header.addClassName(LumoUtility.AlignItems.CENTER);
+
+        this.add(header, this.chartArea);
+        this.add(this.versionsTimelineChart);
+    }
+
+    @Override
+    protected void onAttach(final AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        final UI ui = attachEvent.getUI();
+        this.snapshotRegistration = this.snapshotBroadcaster
+                .register(snapshot -> ui.access(() -> this.update(snapshot)));
+    }
+
+    @Override
+    protected void onDetach(final DetachEvent detachEvent) {
+        this.snapshotRegistration.remove();
+        super.onDetach(detachEvent);
+    }
+
+    /**
+     * Shows the chart for the choice, creating it on first use. Charts that
+     * were shown before are only made visible again, so their configuration
+     * is not sent to the browser another time.
+     */
+    private void showChart(final ChartChoice choice) {
+        final Map<ChartChoice, Chart> repositoryCharts = this.charts
+                .computeIfAbsent(this.repository,
+                        key -> new EnumMap<>(ChartChoice.class));
+        final Chart chart = repositoryCharts.computeIfAbsent(choice, key -> {
+            final Timer.Sample sample = Timer.start();
+            final Chart created = switch (key) {
             case BY_PRE_RELEASE_COUNT -> this.chartByReleaseCount(true);
             case BY_RELEASE_TIME_SPAN -> this.chartByTimeSpan(false);
             case BY_RELEASE_COUNT -> this.chartByReleaseCount(false);
             case BY_PRE_RELEASE_TIME_SPAN -> this.chartByTimeSpan(true);
             };
-            this.chartArea.add(chart);
+            sample.stop(this.meterRegistry.timer("releases.chart.build",
+                    "chart", key.name()));
+            this.chartArea.add(created);
+            return created;
         });
-        radioGroup.setValue(ChartChoice.BY_PRE_RELEASE_COUNT);
+        this.chartArea.getChildren()
+                .forEach(child -> child.setVisible(child == chart));
+        this.versionsTimelineChart.setPre(choice.isPre());
+        this.versionsTimelineChart.setVisible(choice.isCount());
+    }
 
-        final var header = new HorizontalLayout();
-        header.addAndExpand(radioGroup);
-        header.add(this.viewButton(), this.exportButton());
-        header.addClassName(LumoUtility.AlignItems.CENTER);
+    /**
+     * Applies a newly published snapshot to the charts that were created
+     * for its repository. Charts of other repositories than the shown one
+     * are dropped and created again when the repository is selected.
+     */
+    private void update(final VersionsSnapshot snapshot) {
+        final GitRepository updated = snapshot.getRepository();
+        final List<MajorVersionInfo> versionsInfo = snapshot.getVersionsInfo();
+        if (versionsInfo.isEmpty()) {
+            return;
+        }
+        if (!updated.equals(this.repository)) {
+            final Map<ChartChoice, Chart> removed = this.charts
+                    .remove(updated);
+            if (removed != null) {
+                removed.values().forEach(this.chartArea::remove);
+            }
+            return;
+        }
+        this.consolidatedVersionsInfo = versionsInfo;
+        this.versionsTable = snapshot.getTable();
+        this.releaseIndex = snapshot.getIndex();
+        for (final Chart chart : this.charts
+                .getOrDefault(updated, Map.of()).values()) {
+            if (chart instanceof VersionsBarChart barChart) {
+                barChart.update(versionsInfo);
+            } else if (chart instanceof VersionsXRangeChart xRangeChart) {
+                xRangeChart.update(versionsInfo);
+            }
+        }
+        this.versionsTimelineChart.update(versionsInfo);
+    }
 
-        this.add(header, this.chartArea);
-        this.add(this.versionsTimelineChart);
+    private void showRepository(final GitRepository repository) {
+        final VersionsSnapshot snapshot;
+        try {
+            snapshot = this.snapshotService.getSnapshot(repository);
+        } catch (final IOException e) {
+            Notification.show("Failed to load releases of " + repository);
+            return;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (snapshot.getVersionsInfo().isEmpty()) {
+            Notification.show("No releases found in " + repository);
+            return;
+        }
+        this.repository = repository;
+        this.consolidatedVersionsInfo = snapshot.getVersionsInfo();
+        this.versionsTable = snapshot.getTable();
+        this.releaseIndex = snapshot.getIndex();
+        this.versionsTimelineChart.setRepository(repository);
+        this.versionsTimelineChart.updateChart(this.consolidatedVersionsInfo
+                .get(this.consolidatedVersionsInfo.size() - 1));
+        this.showChart(this.radioGroup.getValue());
     }
 
-    private Button exportButton() {
-        return new Button("Export Raw Data", event -> {
-            final StreamResource resource = new StreamResource(
-                    "vaadin_versions.xlsx", () -> new ByteArrayInputStream(
-                            this.prepareSpreadsheet().toByteArray()));
-            final StreamRegistration registration = VaadinSession.getCurrent()
-                    .getResourceRegistry().registerResource(resource);
-            UI.getCurrent().getPage()
-                    .open(registration.getResourceUri().toString());
-        });
+    private MenuBar exportMenu() {
+        final MenuBar menuBar = new MenuBar();
+        final SubMenu formats = menuBar.addItem("Export Raw Data")
+                .getSubMenu();
+        for (final VersionsExport.Format format : VersionsExport.Format
+                .values()) {
+            formats.addItem(format.toString(), event -> this.export(format));
+        }
+        return menuBar;
+    }
+
+    /**
+     * Starts a download that writes the rows straight to the response, so
+     * the file is never held in memory.
+     */
+    private void export(final VersionsExport.Format format) {
+        final ReleaseIndex index = this.releaseIndex;
+        final StreamResource resource = new StreamResource(
+                "vaadin_versions." + format.getExtension(),
+                (out, session) -> VersionsExport.write(format, index, out));
+        resource.setContentType(format.getContentType());
+        final StreamRegistration registration = VaadinSession.getCurrent()
+                .getResourceRegistry().registerResource(resource);
+        UI.getCurrent().getPage()
+                .open(registration.getResourceUri().toString());
     }
 
     private Button viewButton() {
         return new Button("View Raw Data", event -> {
             final Dialog dialog = new Dialog();
             dialog.setHeaderTitle("Vaadin all released version details");
-            dialog.add(this.createSpreadsheet());
+            dialog.add(new RawDataGrid(this.versionsTable,
+                    this.consolidatedVersionsInfo));
             dialog.setWidth("80%");
             dialog.setHeight("80%");
             dialog.open();
         });
     }
 
-    private ByteArrayOutputStream prepareSpreadsheet() {
-
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        final Spreadsheet spreadsheet = this.createSpreadsheet();
-        try {
-            spreadsheet.write(out);
-        } catch (final IOException e) {
-            Notification.show("Error exporting charts");
-        }
-        return out;
-    }
-
-    private Spreadsheet createSpreadsheet() {
-        final Spreadsheet spreadsheet = new Spreadsheet();
-        spreadsheet.setHeightFull();
-        spreadsheet.setWidthFull();
-
-        final int versionColumn = 0;
-        final int releasedOnColumn = 1;
-
-        final AtomicInteger rowCount = new AtomicInteger(0);
-        spreadsheet.createCell(rowCount.get(), versionColumn, "Version");
-        spreadsheet.createCell(rowCount.getAndIncrement(), releasedOnColumn,
-                "Released On");
-
-        this.consolidatedVersionsInfo.stream()
-                .map(MajorVersionInfo::getAllVersions).flatMap(List::stream)
-                .forEach(item -> {
-                    spreadsheet.createCell(rowCount.get(), versionColumn,
-                            item.getVersion());
-                    spreadsheet.createCell(rowCount.getAndIncrement(),
-                            releasedOnColumn,
-                            item.getReleasedOn().toLocalDateTime());
-                });
-        spreadsheet.setColumnWidth(0, 150);
-        spreadsheet.setColumnWidth(1, 200);
-        spreadsheet.setSheetName(spreadsheet.getActiveSheetIndex(),
-                "Vaadin Versions");
-        return spreadsheet;
-    }
-
     private VersionsBarChart chartByReleaseCount(boolean isPre) {
-        versionsTimelineChart.setPre(isPre);
         final var barChart = new VersionsBarChart(this.consolidatedVersionsInfo,
                 isPre);
         barChart.addPointClickListener(this::updateTimelineChart);
-        this.versionsTimelineChart.setVisible(true);
         return barChart;
     }
 
     private VersionsXRangeChart chartByTimeSpan(boolean isPre) {
-        versionsTimelineChart.setPre(isPre);
         final var xRangeChart = new VersionsXRangeChart(
                 this.consolidatedVersionsInfo, isPre);
         xRangeChart.addPointClickListener(this::updateTimelineChart);
-        this.versionsTimelineChart.setVisible(false);
         return xRangeChart;
     }
 
@@ -176,15 +281,28 @@ public class ReleasesView extends VerticalLayout {
     }
 
     private enum ChartChoice {
-        BY_PRE_RELEASE_COUNT("by pre-release count"),
-        BY_PRE_RELEASE_TIME_SPAN("by pre-release time span"),
-        BY_RELEASE_COUNT("by release count"),
-        BY_RELEASE_TIME_SPAN("by release time span");
+        BY_PRE_RELEASE_COUNT("by pre-release count", true, true),
+        BY_PRE_RELEASE_TIME_SPAN("by pre-release time span", true, false),
+        BY_RELEASE_COUNT("by release count", false, true),
+        BY_RELEASE_TIME_SPAN("by release time span", false, false);
 
         private String description;
+        private boolean pre;
+        private boolean count;
 
-        private ChartChoice(final String description) {
+        private ChartChoice(final String description, final boolean pre,
+                final boolean count) {
             this.description = description;
+            this.pre = pre;
+            this.count = count;
+        }
+
+        boolean isPre() {
+            return this.pre;
+        }
+
+        boolean isCount() {
+            return this.count;
         }
 
         @Override
@@ -0,0 +1,70 @@
+package com.vaadin.platform.views.releases;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.platform.git.VersionsSnapshot;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Forwards published snapshots to the open views. Views register while they
+ * are attached and apply the updates through {@code UI.access}, which pushes
+ * the changes to the browser.
+ * <p>
+ * Listeners run on a background thread, so neither slow nor failing views
+ * hold up the refresh that published the snapshot.
+ */
+@Component
+public class SnapshotBroadcaster {
+    private static final Logger LOGGER = LogManager
+            .getLogger(SnapshotBroadcaster.class);
+
+    private final List<SerializableConsumer<VersionsSnapshot>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors
+            .newSingleThreadExecutor(r -> {
+                final Thread thread = new Thread(r, "snapshot-broadcast");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public Registration register(
+            final SerializableConsumer<VersionsSnapshot> listener) {
+        this.listeners.add(listener);
+        return () -> this.listeners.remove(listener);
+    }
+
+    @EventListener
+    public void onSnapshot(final VersionsSnapshot snapshot) {
+        this.executor.execute(() -> this.broadcast(snapshot));
+    }
+
+    private void broadcast(final VersionsSnapshot snapshot) {
+        for (final SerializableConsumer<VersionsSnapshot> listener : this.listeners) {
+            try {
+                listener.accept(snapshot);
+            } catch (final UIDetachedException e) {
+                // the view is being closed and unregisters on detach
+                LOGGER.debug("Skipped detached view", e);
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Failed to forward {}", snapshot, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+}
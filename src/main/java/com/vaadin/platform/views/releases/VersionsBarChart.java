@@ -1,5 +1,6 @@
 package com.vaadin.platform.views.releases;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.vaadin.flow.component.charts.Chart;
@@ -14,6 +15,7 @@ import com.vaadin.platform.git.MajorVersionInfo;
 public class VersionsBarChart extends Chart {
 
     private final List<MajorVersionInfo> consolidatedVersionsInfo;
+    private final ListDataProvider<MajorVersionInfo> dataProvider;
 
     private String release;
     private SerializableFunction<MajorVersionInfo, Object> callBack;
@@ -21,7 +23,10 @@ public class VersionsBarChart extends Chart {
     public VersionsBarChart(
             final List<MajorVersionInfo> consolidatedVersionsInfo,
             boolean isPre) {
-        this.consolidatedVersionsInfo = consolidatedVersionsInfo;
+        this.consolidatedVersionsInfo = new ArrayList<>(
+                consolidatedVersionsInfo);
+        this.dataProvider = new ListDataProvider<>(
+                this.consolidatedVersionsInfo);
         release = isPre ? "Pre-releases" : "Releases";
         callBack = isPre ? MajorVersionInfo::getNumberOfPreReleases
                 : MajorVersionInfo::getNumberOfReleases;
@@ -38,10 +43,19 @@ public class VersionsBarChart extends Chart {
         this.setWidthFull();
     }
 
+    /**
+     * Shows the versions of a newer snapshot. Only the series data is sent to
+     * the client, the rest of the configuration stays as it is.
+     */
+    public void update(final List<MajorVersionInfo> consolidatedVersionsInfo) {
+        this.consolidatedVersionsInfo.clear();
+        this.consolidatedVersionsInfo.addAll(consolidatedVersionsInfo);
+        this.dataProvider.refreshAll();
+    }
+
     private DataProviderSeries<MajorVersionInfo> prepareChartData() {
-        final var dataprovider = new ListDataProvider<>(
-                this.consolidatedVersionsInfo);
-        final var series = new DataProviderSeries<>(dataprovider, callBack);
+        final var series = new DataProviderSeries<>(this.dataProvider,
+                callBack);
         series.setName(release + " counts");
         series.setX(MajorVersionInfo::getMajorVersion);
         return series;
@@ -3,12 +3,19 @@ package com.vaadin.platform.views.releases;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
-
-import org.commonmark.node.Node;
-import org.commonmark.parser.Parser;
-import org.commonmark.renderer.html.HtmlRenderer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.vaadin.flow.component.Html;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.charts.Chart;
 import com.vaadin.flow.component.charts.model.AxisType;
 import com.vaadin.flow.component.charts.model.ChartType;
@@ -20,18 +27,31 @@ import com.vaadin.flow.component.charts.model.DataSeriesItemTimeline;
 import com.vaadin.flow.component.charts.model.MarkerSymbolEnum;
 import com.vaadin.flow.component.charts.model.PlotOptionsTimeline;
 import com.vaadin.flow.component.dialog.Dialog;
-import com.vaadin.platform.git.GitHubService;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.platform.git.GitRepository;
 import com.vaadin.platform.git.MajorVersionInfo;
+import com.vaadin.platform.git.ReleaseIndex;
+import com.vaadin.platform.git.ReleaseNotesRenderer;
 
 public class VersionsTimelineChart extends Chart {
 
-    private final GitHubService gitHubService;
+    private final ReleaseNotesRenderer releaseNotesRenderer;
+    private GitRepository repository;
     private boolean isPre;
     private String interval;
 
-    public VersionsTimelineChart(final GitHubService gitHubService,
+    // series per major version and release type of the current snapshot
+    private final Map<String, DataSeries> seriesCache = new HashMap<>();
+    private MajorVersionInfo majorVersionInfo;
+    private DataSeries series;
+
+    public VersionsTimelineChart(
+            final ReleaseNotesRenderer releaseNotesRenderer,
+            final GitRepository repository,
             final MajorVersionInfo majorVersionInfo) {
-        this.gitHubService = gitHubService;
+        this.releaseNotesRenderer = releaseNotesRenderer;
+        this.repository = repository;
 
         final Configuration configuration = this.getConfiguration();
         configuration.getChart().setType(ChartType.TIMELINE);
@@ -42,20 +62,32 @@ public class VersionsTimelineChart extends Chart {
 
         this.addPointClickListener(event -> {
             final String versionName = event.getItem().getName();
-            final String releaseNotes = this.gitHubService
-                    .fetchReleaseNotes(versionName);
-
-            final Parser parser = Parser.builder().build();
-            final Node document = parser.parse(releaseNotes);
-            final HtmlRenderer renderer = HtmlRenderer.builder().build();
-            final String htmlReleaseNotes = "<div>" + renderer.render(document)
-                    + "</div>";
 
+            // open the dialog right away and push the notes once loaded
+            final ProgressBar loading = new ProgressBar();
+            loading.setIndeterminate(true);
             final Dialog dialog = new Dialog();
             dialog.setHeaderTitle(
                     "Release Notes for " + versionName + interval);
-            dialog.add(new Html(htmlReleaseNotes));
+            dialog.add(loading);
             dialog.open();
+
+            final UI ui = event.getSource().getUI().orElseThrow();
+            this.releaseNotesRenderer
+                    .renderReleaseNotesAsync(this.repository, versionName)
+                    .whenComplete((htmlReleaseNotes, error) -> {
+                        try {
+                            ui.access(() -> {
+                                dialog.removeAll();
+                                dialog.add(error == null
+                                        ? new Html(htmlReleaseNotes)
+                                        : new Span(
+                                                "Failed to fetch release notes!"));
+                            });
+                        } catch (UIDetachedException e) {
+                            // the user left, nobody to show the notes to
+                        }
+                    });
         });
         this.updateChart(majorVersionInfo);
 
@@ -63,26 +95,55 @@ public class VersionsTimelineChart extends Chart {
         this.setWidthFull();
     }
 
+    /**
+     * Sets the repository whose release notes are shown when clicking a
+     * version. Call {@link #updateChart(MajorVersionInfo)} afterwards.
+     */
+    public void setRepository(final GitRepository repository) {
+        this.repository = repository;
+        this.seriesCache.clear();
+        this.majorVersionInfo = null;
+    }
+
     public void setPre(boolean isPre) {
         this.isPre = isPre;
     }
 
-    private DataSeries prepareChartData(
+    /**
+     * Returns the index positions of the shown versions of the major version,
+     * oldest release first.
+     */
+    private int[] positions(final MajorVersionInfo majorVersionInfo) {
+        final ReleaseIndex index = majorVersionInfo.getIndex();
+        final int major = index.indexOf(majorVersionInfo.getMajorVersion());
+        if (major < 0) {
+            return new int[0];
+        }
+        final IntStream positions = isPre
+                ? IntStream.range(0, index.preReleaseCount(major))
+                        .map(n -> index.preRelease(major, n))
+                : IntStream.range(index.start(major), index.end(major));
+        // the timeline needs its points in x order
+        return positions.boxed()
+                .sorted(Comparator.<Integer> comparingLong(index::releasedOn))
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    private static DataSeriesItem toItem(final ReleaseIndex index,
+            final int i) {
+        return new DataSeriesItemTimeline(Long.valueOf(index.releasedOn(i)),
+                index.version(i), "", index.releasedOnDate(i)
+                        .format(DateTimeFormatter.RFC_1123_DATE_TIME));
+    }
+
+    DataSeries prepareChartData(
             final MajorVersionInfo majorVersionInfo) {
-        final var itemTimelines = majorVersionInfo.getAllVersions().stream()
-                .filter(item -> {
-                    return isPre
-                            ? item.getVersion().matches(
-                                    ".*(\\.0|(SNAPSHOT|alpha|beta|rc)\\d*)")
-                            : true;
-                })
-                .map(item -> new DataSeriesItemTimeline(
-                        Long.valueOf(item
-                                .getReleasedOn().toInstant().toEpochMilli()),
-                        item.getVersion(), "",
-                        item.getReleasedOn()
-                                .format(DateTimeFormatter.RFC_1123_DATE_TIME)))
-                .map(DataSeriesItem.class::cast).toList();
+        final ReleaseIndex index = majorVersionInfo.getIndex();
+        final var itemTimelines = Arrays
+                .stream(this.positions(majorVersionInfo))
+                .mapToObj(i -> toItem(index, i))
+                // update(...) adds to the data list of the series
+                .collect(Collectors.toCollection(ArrayList::new));
 
         final var series = new DataSeries(itemTimelines);
 
@@ -97,7 +158,83 @@ public class VersionsTimelineChart extends Chart {
         return series;
     }
 
+    /**
+     * Shows the versions of a newer snapshot. Versions released since the
+     * last update are added to the shown major version point by point
+     * instead of redrawing the chart. The series is rebuilt if the snapshot
+     * dropped a shown version, e.g. after a full resync, or if a new version
+     * was released before the last shown one.
+     */
+    public void update(final List<MajorVersionInfo> consolidatedVersionsInfo) {
+        this.seriesCache.clear();
+        if (this.majorVersionInfo == null) {
+            return;
+        }
+        final MajorVersionInfo current = consolidatedVersionsInfo.stream()
+                .filter(info -> info.getMajorVersion()
+                        .equals(this.majorVersionInfo.getMajorVersion()))
+                .findFirst().orElse(null);
+        if (current == null) {
+            return;
+        }
+        final ReleaseIndex index = current.getIndex();
+        final int[] positions = this.positions(current);
+        final Set<String> versions = Arrays.stream(positions)
+                .mapToObj(index::version).collect(Collectors.toSet());
+        final List<DataSeriesItem> shownItems = this.series.getData();
+        final Set<String> shown = shownItems.stream()
+                .map(DataSeriesItem::getName).collect(Collectors.toSet());
+        long last = shownItems.stream()
+                .mapToLong(item -> item.getX().longValue()).max()
+                .orElse(Long.MIN_VALUE);
+        boolean rebuild = !versions.containsAll(shown);
+        final List<DataSeriesItem> added = new ArrayList<>();
+        for (final int i : positions) {
+            if (!shown.contains(index.version(i))) {
+                rebuild |= index.releasedOn(i) < last;
+                last = Math.max(last, index.releasedOn(i));
+                added.add(toItem(index, i));
+            }
+        }
+        this.majorVersionInfo = current;
+        final String title = this.getConfiguration().getTitle().getText();
+        this.updateTitle(current);
+        if (rebuild) {
+            this.series = this.prepareChartData(current);
+            this.seriesCache.put(this.cacheKey(current), this.series);
+            this.getConfiguration().setSeries(this.series);
+            this.drawChart(true);
+            return;
+        }
+        added.forEach(item -> this.series.add(item, true, false));
+        this.seriesCache.put(this.cacheKey(current), this.series);
+        if (!title.equals(this.getConfiguration().getTitle().getText())) {
+            // the title only reaches the browser with the configuration
+            this.drawChart();
+        }
+    }
+
     public void updateChart(final MajorVersionInfo majorVersionInfo) {
+        if (majorVersionInfo == this.majorVersionInfo
+                && this.series == this.seriesCache
+                        .get(this.cacheKey(majorVersionInfo))) {
+            // already shown
+            return;
+        }
+        this.majorVersionInfo = majorVersionInfo;
+        this.updateTitle(majorVersionInfo);
+        this.series = this.seriesCache.computeIfAbsent(
+                this.cacheKey(majorVersionInfo),
+                key -> this.prepareChartData(majorVersionInfo));
+        this.getConfiguration().setSeries(this.series);
+        this.drawChart(true);
+    }
+
+    private String cacheKey(final MajorVersionInfo majorVersionInfo) {
+        return majorVersionInfo.getMajorVersion() + (isPre ? "-pre" : "");
+    }
+
+    private void updateTitle(final MajorVersionInfo majorVersionInfo) {
         LocalDate first = majorVersionInfo.getFirstRelease().toLocalDate();
         LocalDate last = (isPre ? majorVersionInfo.getLastPreRelease()
                 : majorVersionInfo.getLastRelease()).toLocalDate();
@@ -121,9 +258,5 @@ public class VersionsTimelineChart extends Chart {
 
         this.getConfiguration().setTitle("Timeline of releases in version "
                 + majorVersionInfo.getMajorVersion() + interval);
-
-        final DataSeries series = this.prepareChartData(majorVersionInfo);
-        this.getConfiguration().setSeries(series);
-        this.drawChart(true);
     }
 }
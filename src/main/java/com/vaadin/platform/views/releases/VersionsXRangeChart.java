@@ -1,10 +1,14 @@
 package com.vaadin.platform.views.releases;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.Period;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import com.vaadin.flow.component.charts.Chart;
 import com.vaadin.flow.component.charts.model.AxisType;
@@ -20,8 +24,12 @@ import com.vaadin.platform.git.MajorVersionInfo;
 
 public class VersionsXRangeChart extends Chart {
 
-    private final List<MajorVersionInfo> consolidatedVersionsInfo;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter
+            .ofPattern("MMM dd, yyyy", Locale.US);
+
+    private List<MajorVersionInfo> consolidatedVersionsInfo;
     private boolean isPre;
+    private DataSeries series;
 
     public VersionsXRangeChart(
             final List<MajorVersionInfo> consolidatedVersionsInfo,
@@ -41,73 +49,15 @@ public class VersionsXRangeChart extends Chart {
         configuration.getyAxis().setCategories(this.categories());
         configuration.getyAxis().setReversed(false);
 
-        configuration.addSeries(this.prepareChartData());
-
-        configuration.getTooltip().setFormatter(
-                """
-                            function() {
-                             const days = (Math.abs(this.x2-this.x)/(24 * 60 * 60 * 1000)).toFixed(0);
-                             const date1 = new Date(this.x);
-                             const date2 = new Date(this.x2);
-
-                             const year1 = date1.getFullYear();
-                             const month1 = String(date1.getMonth() + 1).padStart(2, '0');
-                             const day1 = String(date1.getDate()).padStart(2, '0');
-
-                             const year2 = date2.getFullYear();
-                             const month2 = String(date2.getMonth() + 1).padStart(2, '0');
-                             const day2 = String(date2.getDate()).padStart(2, '0');
-
-                             const f1 = new Intl.DateTimeFormat("en-US", {
-                                day: "2-digit",
-                                month: "short",
-                                year: "numeric"
-                            }).format(date1);
-                             const f2 = new Intl.DateTimeFormat("en-US", {
-                                day: "2-digit",
-                                month: "short",
-                                year: "numeric"
-                            }).format(date2);
-
-                            function calculateDuration(startDate, endDate) {
-                                // Ensure startDate is earlier than endDate
-                                if (startDate > endDate) {
-                                    [startDate, endDate] = [endDate, startDate];
-                                }
-
-                                // Extract the initial difference in years, months, and days
-                                let years = endDate.getFullYear() - startDate.getFullYear();
-                                let months = endDate.getMonth() - startDate.getMonth();
-                                let days = endDate.getDate() - startDate.getDate();
-
-                                // Adjust for negative days
-                                if (days < 0) {
-                                    months -= 1; // Borrow a month
-                                    // Get the number of days in the previous month
-                                    const previousMonth = new Date(
-                                        endDate.getFullYear(),
-                                        endDate.getMonth(),
-                                        0
-                                    ).getDate();
-                                    days += previousMonth;
-                                }
-
-                                // Adjust for negative months
-                                if (months < 0) {
-                                    years -= 1; // Borrow a year
-                                    months += 12;
-                                }
-
-                                let ret = "";
-                                if (months) ret += months + " months, ";
-                                if (years)  ret += years + " years, ";
-                                return ret + days + " days";
-                             }
-
-                             const duration = calculateDuration(date1, date2);
-                             const version = this.key;
-                             return `<span><b>Version:${version}.0</b></span><br/><span>${f1} - ${f2}</span><br/><span>${duration}</span><br/>`; }
-                        """);
+        this.series = this.prepareChartData();
+        configuration.addSeries(this.series);
+
+        // time span and statistics are precomputed in the point's tooltip
+        configuration.getTooltip().setFormatter("""
+                function() {
+                    return `<span><b>Version:${this.key}.0</b></span><br/>${this.point.tooltip}`;
+                }
+                """);
         this.setHeightFull();
         this.setWidthFull();
     }
@@ -117,35 +67,117 @@ public class VersionsXRangeChart extends Chart {
                 .map(MajorVersionInfo::getMajorVersion).toArray(String[]::new);
     }
 
-    private DataSeries prepareChartData() {
-        final String labelFormat = "%s";
-        final var itemTimelines = this.consolidatedVersionsInfo.stream()
-                .map(item -> {
-                    final Long startTime = item.getFirstRelease().toInstant()
-                            .toEpochMilli();
-                    OffsetDateTime last = isPre ? item.getLastPreRelease()
-                            : item.getLastRelease();
-                    final Long endTime = last.toInstant().toEpochMilli();
-                    final var seriesItem = new DataSeriesItemXrange(startTime,
-                            endTime,
-                            this.consolidatedVersionsInfo.indexOf(item));
-
-                    LocalDate startDate = item.getFirstRelease().toLocalDate();
-                    LocalDate endDate = last.toLocalDate();
+    /**
+     * Shows the versions of a newer snapshot. Time spans of the shown major
+     * versions are updated point by point; only a new or removed major
+     * version redraws the chart, as the axis categories change.
+     */
+    public void update(final List<MajorVersionInfo> consolidatedVersionsInfo) {
+        final List<MajorVersionInfo> previous = this.consolidatedVersionsInfo;
+        this.consolidatedVersionsInfo = consolidatedVersionsInfo;
+        if (!this.sameMajorVersions(previous)) {
+            this.getConfiguration().getyAxis()
+                    .setCategories(this.categories());
+            this.series.setData(this.prepareItems());
+            this.drawChart();
+            return;
+        }
+        for (int i = 0; i < consolidatedVersionsInfo.size(); i++) {
+            final MajorVersionInfo item = consolidatedVersionsInfo.get(i);
+            final TimeSpanItem point = (TimeSpanItem) this.series.get(i);
+            final Long startTime = item.getFirstRelease().toInstant()
+                    .toEpochMilli();
+            final Long endTime = this.lastRelease(item).toInstant()
+                    .toEpochMilli();
+            final String tooltip = this.tooltip(item);
+            if (!startTime.equals(point.getX())
+                    || !endTime.equals(point.getX2())
+                    || !tooltip.equals(point.getTooltip())) {
+                point.setX(startTime);
+                point.setX2(endTime);
+                point.setTooltip(tooltip);
+                this.series.update(point);
+            }
+        }
+    }
 
-                    final Period period = Period.between(startDate, endDate);
-                    long between = ChronoUnit.DAYS.between(startDate, endDate);
+    private boolean sameMajorVersions(final List<MajorVersionInfo> previous) {
+        if (previous.size() != this.consolidatedVersionsInfo.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            if (!previous.get(i).getMajorVersion().equals(
+                    this.consolidatedVersionsInfo.get(i).getMajorVersion())) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                    final var label = labelFormat.formatted(
-                            item.getMajorVersion(), between, period.getYears(),
-                            period.getMonths(), period.getDays());
+    private OffsetDateTime lastRelease(final MajorVersionInfo item) {
+        return isPre ? item.getLastPreRelease() : item.getLastRelease();
+    }
 
-                    seriesItem.setName(label);
-                    return seriesItem;
+    private List<DataSeriesItem> prepareItems() {
+        final String labelFormat = "%s";
+        final List<DataSeriesItem> itemTimelines = new ArrayList<>(
+                this.consolidatedVersionsInfo.size());
+        for (int i = 0; i < this.consolidatedVersionsInfo.size(); i++) {
+            final MajorVersionInfo item = this.consolidatedVersionsInfo.get(i);
+            final Long startTime = item.getFirstRelease().toInstant()
+                    .toEpochMilli();
+            OffsetDateTime last = this.lastRelease(item);
+            final Long endTime = last.toInstant().toEpochMilli();
+            final var seriesItem = new TimeSpanItem(startTime, endTime, i);
+
+            LocalDate startDate = item.getFirstRelease().toLocalDate();
+            LocalDate endDate = last.toLocalDate();
+
+            final Period period = Period.between(startDate, endDate);
+            long between = ChronoUnit.DAYS.between(startDate, endDate);
+
+            final var label = labelFormat.formatted(item.getMajorVersion(),
+                    between, period.getYears(), period.getMonths(),
+                    period.getDays());
+
+            seriesItem.setName(label);
+            seriesItem.setTooltip(this.tooltip(item));
+            itemTimelines.add(seriesItem);
+        }
+        return itemTimelines;
+    }
 
-                }).map(DataSeriesItem.class::cast).toList();
+    /**
+     * Returns the tooltip text of a major version: its time span, duration
+     * and median gap between releases.
+     */
+    private String tooltip(final MajorVersionInfo item) {
+        final LocalDate startDate = item.getFirstRelease().toLocalDate();
+        final LocalDate endDate = this.lastRelease(item).toLocalDate();
+        final Period period = Period.between(startDate, endDate);
+
+        String duration = "";
+        if (period.getYears() > 0) {
+            duration += period.getYears() + " years, ";
+        }
+        if (period.getMonths() > 0) {
+            duration += period.getMonths() + " months, ";
+        }
+        duration += period.getDays() + " days";
+
+        String text = "<span>" + DATE_FORMAT.format(startDate) + " - "
+                + DATE_FORMAT.format(endDate) + "</span><br/><span>"
+                + duration + "</span><br/>";
+        final Duration medianGap = item.getStatistics().medianGap();
+        if (medianGap != null) {
+            text += "<span>Median gap " + medianGap.toDays()
+                    + " days</span><br/>";
+        }
+        return text;
+    }
 
-        final var series = new DataSeries(itemTimelines);
+    DataSeries prepareChartData() {
+        final var series = new DataSeries(this.prepareItems());
         series.setName("Vaadin version");
 
         final PlotOptionsXrange options = new PlotOptionsXrange();
@@ -160,4 +192,26 @@ public class VersionsXRangeChart extends Chart {
         series.setPlotOptions(options);
         return series;
     }
+
+    /**
+     * Time span of a major version with its tooltip HTML in the custom
+     * {@code point.tooltip} property. The standard {@code description} is
+     * read out by screen readers, so it must not carry markup.
+     */
+    static class TimeSpanItem extends DataSeriesItemXrange {
+        private String tooltip;
+
+        TimeSpanItem(final Number x, final Number x2, final Number y) {
+            super(x, x2, y);
+        }
+
+        String getTooltip() {
+            return this.tooltip;
+        }
+
+        void setTooltip(final String tooltip) {
+            this.tooltip = tooltip;
+            this.makeCustomized();
+        }
+    }
 }
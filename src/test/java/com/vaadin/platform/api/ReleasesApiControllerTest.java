@@ -0,0 +1,152 @@
+package com.vaadin.platform.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vaadin.platform.git.GitHubTagService;
+import com.vaadin.platform.git.GitService;
+import com.vaadin.platform.git.VersionDetails;
+import com.vaadin.platform.git.VersionsSnapshotService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ReleasesApiControllerTest {
+
+    @TempDir
+    Path cacheFolder;
+
+    MockMvc mockMvc;
+    String etag;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        GitHubTagService tagService = new GitHubTagService();
+        ReflectionTestUtils.setField(tagService, "meterRegistry",
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tagService, "tagCacheEnabled", true);
+        ReflectionTestUtils.setField(tagService, "tagCacheDuration", 3600L);
+        ReflectionTestUtils.setField(tagService, "tagCacheFolder",
+                cacheFolder.toString());
+        ReflectionTestUtils.setField(tagService, "tagCacheFormat", "json");
+        ReflectionTestUtils.invokeMethod(tagService, "saveToCache", "vaadin",
+                "platform",
+                List.of(new VersionDetails("24.7.0",
+                        OffsetDateTime.parse("2025-03-01T10:00:00Z"), "bot"),
+                        new VersionDetails("24.8.0",
+                                OffsetDateTime.parse("2025-06-01T10:00:00Z"),
+                                null)));
+
+        GitService gitService = new GitService();
+        ReflectionTestUtils.setField(gitService, "tagSource",
+                tagService);
+        ReflectionTestUtils.setField(gitService, "meterRegistry",
+                new SimpleMeterRegistry());
+        VersionsSnapshotService snapshotService = new VersionsSnapshotService(
+                gitService, event -> {
+                }, "vaadin/platform");
+        etag = '"' + snapshotService.getSnapshot().getFingerprint() + '"';
+
+        ReleasesApiController controller = new ReleasesApiController(
+                snapshotService, null);
+        ReflectionTestUtils.setField(controller, "maxAge", 60L);
+        // dates and durations as ISO strings like the ObjectMapper of Spring
+        // Boot
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new StringHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(
+                                Jackson2ObjectMapperBuilder.json()
+                                        .featuresToDisable(
+                                                SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                                                SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                                        .build()))
+                .build();
+    }
+
+    @Test
+    public void servesSummariesWithEtag() throws Exception {
+        mockMvc.perform(get("/api/repositories/vaadin/platform/majors"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Cache-Control",
+                        "max-age=60, must-revalidate, public"))
+                .andExpect(jsonPath("$[1].majorVersion").value("24.8"))
+                .andExpect(jsonPath("$[1].numberOfReleases").value(1))
+                .andExpect(jsonPath("$[0].statistics.medianGap").isEmpty())
+                .andExpect(jsonPath("$[0].statistics.maintenanceTail")
+                        .value("PT0S"))
+                .andExpect(jsonPath("$[0].statistics.releasesByCreator.bot")
+                        .value(1))
+                .andExpect(jsonPath("$[1].allVersions").doesNotExist());
+    }
+
+    @Test
+    public void servesVersionsOfOneMajor() throws Exception {
+        mockMvc.perform(
+                get("/api/repositories/vaadin/platform/majors/24.7/versions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].version").value("24.7.0"))
+                .andExpect(jsonPath("$[0].creator").value("bot"))
+                .andExpect(jsonPath("$[0].releasedOn")
+                        .value("2025-03-01T10:00:00Z"))
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(
+                get("/api/repositories/vaadin/platform/majors/24.8/versions")
+                        .header("If-None-Match", "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$[0].version").value("24.8.0"))
+                .andExpect(jsonPath("$[0].creator").isEmpty());
+        mockMvc.perform(
+                get("/api/repositories/vaadin/platform/majors/24.8/versions")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(
+                get("/api/repositories/vaadin/platform/majors/23.3/versions"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void answersMatchingEtagWithNotModified() throws Exception {
+        mockMvc.perform(get("/api/repositories/vaadin/platform/majors")
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/repositories/vaadin/platform/majors")
+                .header("If-None-Match", "\"outdated\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void rejectsReleaseNotesOfUnknownVersions() throws Exception {
+        // the controller has no GitHubService, so GitHub is never asked
+        mockMvc.perform(get(
+                "/api/repositories/vaadin/platform/releases/24.9.0/notes"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void rejectsUnknownRepositories() throws Exception {
+        mockMvc.perform(get("/api/repositories/vaadin/flow/majors"))
+                .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinaryTagCacheTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void roundTripKeepsAllFields() throws IOException {
+        List<VersionDetails> details = List.of(
+                new VersionDetails("24.7.0",
+                        OffsetDateTime.parse("2025-03-31T12:15:30+03:00"),
+                        "release-bot"),
+                new VersionDetails("24.7.1",
+                        OffsetDateTime.parse("2025-04-07T08:00:00Z"),
+                        "release-bot"),
+                new VersionDetails("24.8.0-alpha1",
+                        OffsetDateTime.parse("2025-04-10T23:59:59-05:00"),
+                        null));
+        Path file = folder.resolve("tags.bin");
+
+        BinaryTagCache.write(file, details);
+        List<VersionDetails> read = BinaryTagCache.read(file);
+
+        Assertions.assertEquals(details.size(), read.size());
+        for (int i = 0; i < details.size(); i++) {
+            Assertions.assertEquals(details.get(i).getVersion(),
+                    read.get(i).getVersion());
+            Assertions.assertEquals(details.get(i).getReleasedOn(),
+                    read.get(i).getReleasedOn());
+            Assertions.assertEquals(details.get(i).getCreator(),
+                    read.get(i).getCreator());
+        }
+        // creators are stored and read once
+        Assertions.assertSame(read.get(0).getCreator(),
+                read.get(1).getCreator());
+    }
+
+    @Test
+    public void emptyListRoundTrip() throws IOException {
+        Path file = folder.resolve("empty.bin");
+        BinaryTagCache.write(file, List.of());
+        Assertions.assertTrue(BinaryTagCache.read(file).isEmpty());
+    }
+
+    @Test
+    public void corruptFileIsRejected() throws IOException {
+        Path file = folder.resolve("tags.bin");
+        Files.writeString(file, "[{\"version\":\"24.7.0\"}]");
+        Assertions.assertThrows(IOException.class,
+                () -> BinaryTagCache.read(file));
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CrawlCheckpointTest {
+
+    @TempDir
+    Path cacheFolder;
+
+    StubGraphQlServer server;
+    GitHubHttpClient httpClient;
+    GitHubTagService tagService;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new StubGraphQlServer();
+        httpClient = GitHubGraphQlClientTest.newHttpClient();
+
+        tagService = new GitHubTagService();
+        ReflectionTestUtils.setField(tagService, "graphQlClient",
+                GitHubGraphQlClientTest.newClient(httpClient, server.url(),
+                        new CopyOnWriteArrayList<>()));
+        ReflectionTestUtils.setField(tagService, "tagCacheEnabled", true);
+        ReflectionTestUtils.setField(tagService, "tagCacheDuration", 3600L);
+        ReflectionTestUtils.setField(tagService, "tagCacheFolder",
+                cacheFolder.toString());
+        ReflectionTestUtils.setField(tagService, "tagCacheFormat", "binary");
+        ReflectionTestUtils.setField(tagService, "meterRegistry",
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+        httpClient.shutdown();
+    }
+
+    static VersionDetails tag(String version) {
+        return new VersionDetails(version,
+                OffsetDateTime.parse("2025-01-01T10:00:00Z"), "release-bot");
+    }
+
+    @Test
+    public void crawlContinuesFromCheckpointAfterFailure() throws Exception {
+        Path checkpointFile = cacheFolder
+                .resolve("github-tags-vaadin_platform.checkpoint");
+        server.enqueue(200, StubGraphQlServer.page("c1", "24.8.0", "24.7.1"))
+                .enqueue(404, "Not Found");
+
+        Assertions.assertThrows(IOException.class,
+                () -> tagService.refreshTags("vaadin", "platform", true));
+        Assertions.assertTrue(Files.exists(checkpointFile));
+
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.0"));
+        List<VersionDetails> tags = tagService.refreshTags("vaadin",
+                "platform", true);
+
+        Assertions.assertEquals(List.of("24.8.0", "24.7.1", "24.7.0"),
+                tags.stream().map(VersionDetails::getVersion).toList());
+        Assertions.assertEquals(3, server.requests().size());
+        Assertions.assertTrue(
+                server.requests().get(2).contains("\"after\":\"c1\""));
+        Assertions.assertFalse(Files.exists(checkpointFile));
+    }
+
+    @Test
+    public void ignoresIncompleteLastPage() throws IOException {
+        Path file = cacheFolder.resolve("crawl.checkpoint");
+        CrawlCheckpoint checkpoint = new CrawlCheckpoint(file, 3600);
+        checkpoint.start();
+        checkpoint.append("c1", List.of(tag("24.8.0"), tag("24.7.1")));
+        checkpoint.append("c2", List.of(tag("24.7.0")));
+        Files.writeString(file, "{\"cursor\":\"c3\",\"tags\":[{\"vers",
+                StandardOpenOption.APPEND);
+
+        CrawlCheckpoint.Progress progress = checkpoint.load();
+
+        Assertions.assertEquals("c2", progress.cursor());
+        Assertions.assertEquals(List.of("24.8.0", "24.7.1", "24.7.0"),
+                progress.tags().stream().map(VersionDetails::getVersion)
+                        .toList());
+    }
+
+    @Test
+    public void discardsOutdatedCheckpoints() throws IOException {
+        Path file = cacheFolder.resolve("crawl.checkpoint");
+        Files.writeString(file, """
+                {"startedAt":"2020-01-01T00:00:00Z"}
+                {"cursor":"c1","tags":[]}
+                """);
+
+        Assertions.assertNull(new CrawlCheckpoint(file, 3600).load());
+        Assertions.assertFalse(Files.exists(file));
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GitHubGraphQlClientTest {
+
+    @TempDir
+    Path cacheFolder;
+
+    StubGraphQlServer server;
+    GitHubHttpClient httpClient;
+    GitHubGraphQlClient client;
+    // waits requested by the client instead of sleeping
+    List<Long> sleeps = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a client against the stub server with retries every second
+     * that records its waits instead of sleeping.
+     */
+    static GitHubGraphQlClient newClient(GitHubHttpClient httpClient,
+            String url, List<Long> sleeps) {
+        GitHubGraphQlClient client = new GitHubGraphQlClient() {
+            @Override
+            void sleep(long millis) {
+                if (millis > 0) {
+                    sleeps.add(millis);
+                }
+            }
+        };
+        ReflectionTestUtils.setField(client, "httpClient", httpClient);
+        ReflectionTestUtils.setField(client, "graphqlApiUrl", url);
+        ReflectionTestUtils.setField(client, "githubToken", "");
+        ReflectionTestUtils.setField(client, "reserve", 50);
+        ReflectionTestUtils.setField(client, "paceBelow", 500);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "initialBackoff", 1000L);
+        ReflectionTestUtils.setField(client, "maxBackoff", 60000L);
+        return client;
+    }
+
+    static GitHubHttpClient newHttpClient() {
+        return newHttpClient(new SimpleMeterRegistry());
+    }
+
+    static GitHubHttpClient newHttpClient(MeterRegistry registry) {
+        GitHubHttpClient httpClient = new GitHubHttpClient();
+        ReflectionTestUtils.setField(httpClient, "meterRegistry", registry);
+        ReflectionTestUtils.setField(httpClient, "httpVersion",
+                HttpClient.Version.HTTP_1_1);
+        ReflectionTestUtils.setField(httpClient, "connectTimeout", 5L);
+        ReflectionTestUtils.setField(httpClient, "requestTimeout", 5L);
+        ReflectionTestUtils.setField(httpClient, "executorThreads", 1);
+        ReflectionTestUtils.setField(httpClient, "maxConcurrentRequests", 1);
+        httpClient.init();
+        return httpClient;
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new StubGraphQlServer();
+        httpClient = newHttpClient();
+        client = newClient(httpClient, server.url(), sleeps);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+        httpClient.shutdown();
+    }
+
+    ObjectNode variables() {
+        return new ObjectMapper().createObjectNode().put("owner", "vaadin");
+    }
+
+    @Test
+    public void retriesThrottledRequestAfterRetryAfter() throws Exception {
+        server.enqueue(429, "{}", Map.of("Retry-After", "2"))
+                .enqueue(200, StubGraphQlServer.page(null, "24.7.0"));
+
+        Assertions.assertEquals("24.7.0",
+                client.query("query", variables()).path("repository")
+                        .path("refs").path("nodes").get(0).path("name")
+                        .asText());
+        Assertions.assertEquals(2, server.requests().size());
+        Assertions.assertEquals(1, sleeps.size());
+        Assertions.assertTrue(sleeps.get(0) >= 2000 && sleeps.get(0) < 3000,
+                sleeps.toString());
+    }
+
+    @Test
+    public void waitsForResetWhenQuotaIsExhausted() throws Exception {
+        long reset = Instant.now().plusSeconds(30).getEpochSecond();
+        server.enqueue(403, "{\"message\":\"API rate limit exceeded\"}",
+                Map.of("X-RateLimit-Remaining", "0", "X-RateLimit-Reset",
+                        String.valueOf(reset)))
+                .enqueue(200, StubGraphQlServer.page(null, "24.7.0"));
+
+        client.query("query", variables());
+
+        Assertions.assertEquals(2, server.requests().size());
+        // the exhausted budget also holds back the retry itself
+        Assertions.assertTrue(sleeps.stream().allMatch(
+                sleep -> sleep > 27000 && sleep < 32000), sleeps.toString());
+    }
+
+    @Test
+    public void retriesServerErrorsWithJitteredBackoff() {
+        server.enqueue(502, "Bad Gateway");
+
+        Assertions.assertThrows(IOException.class,
+                () -> client.query("query", variables()));
+
+        Assertions.assertEquals(3, server.requests().size());
+        Assertions.assertEquals(2, sleeps.size());
+        Assertions.assertTrue(sleeps.get(0) >= 500 && sleeps.get(0) < 1000,
+                sleeps.toString());
+        Assertions.assertTrue(sleeps.get(1) >= 1000 && sleeps.get(1) < 2000,
+                sleeps.toString());
+    }
+
+    @Test
+    public void doesNotRetryQueryErrors() {
+        server.enqueue(200, "{\"errors\":[{\"message\":\"Bad query\"}]}");
+
+        Assertions.assertThrows(IOException.class,
+                () -> client.query("query", variables()));
+        Assertions.assertEquals(1, server.requests().size());
+        Assertions.assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    public void pacesRequestsToRemainingBudget() throws Exception {
+        String resetAt = Instant.now().plusSeconds(100)
+                .truncatedTo(ChronoUnit.SECONDS).toString();
+        server.enqueue(200, """
+                {"data":{"rateLimit":{"cost":1,"remaining":150,\
+                "resetAt":"%s"}}}""".formatted(resetAt));
+        client.query("query", variables());
+        Assertions.assertEquals(150, client.getRemaining());
+        Assertions.assertTrue(sleeps.isEmpty());
+
+        // 100 points above the reserve left for 100 seconds
+        client.query("query", variables());
+        Assertions.assertEquals(1, sleeps.size());
+        Assertions.assertTrue(sleeps.get(0) > 900 && sleeps.get(0) <= 1000,
+                sleeps.toString());
+
+        server.enqueue(200, """
+                {"data":{"rateLimit":{"cost":1,"remaining":10,\
+                "resetAt":"%s"}}}""".formatted(resetAt));
+        client.query("query", variables());
+        client.query("query", variables());
+        // below the reserve the client waits for the reset
+        Assertions.assertTrue(sleeps.get(sleeps.size() - 1) > 90000,
+                sleeps.toString());
+    }
+
+    @Test
+    public void crawlResumesFromLastCursorAfterFailure() throws Exception {
+        GitHubTagService tagService = new GitHubTagService();
+        ReflectionTestUtils.setField(tagService, "graphQlClient", client);
+        ReflectionTestUtils.setField(tagService, "meterRegistry",
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tagService, "tagCacheEnabled", false);
+        ReflectionTestUtils.setField(tagService, "tagCacheFolder",
+                cacheFolder.toString());
+        ReflectionTestUtils.setField(tagService, "tagCacheFormat", "binary");
+
+        server.enqueue(200, StubGraphQlServer.page("c1", "24.8.0", "24.7.1"))
+                .enqueue(503, "Service Unavailable")
+                .enqueue(200, StubGraphQlServer.page(null, "24.7.0"));
+
+        List<VersionDetails> tags = tagService.refreshTags("vaadin",
+                "platform", true);
+
+        Assertions.assertEquals(3, tags.size());
+        Assertions.assertEquals(3, server.requests().size());
+        Assertions.assertTrue(
+                server.requests().get(2).contains("\"after\":\"c1\""));
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.vaadin.platform.git;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GitHubTagServiceTest {
+
+    @TempDir
+    Path cacheFolder;
+
+    StubGraphQlServer server;
+    GitHubHttpClient httpClient;
+    GitHubTagService tagService;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new StubGraphQlServer();
+        httpClient = GitHubGraphQlClientTest.newHttpClient();
+
+        tagService = new GitHubTagService();
+        ReflectionTestUtils.setField(tagService, "graphQlClient",
+                GitHubGraphQlClientTest.newClient(httpClient, server.url(),
+                        new CopyOnWriteArrayList<>()));
+        ReflectionTestUtils.setField(tagService, "tagCacheEnabled", true);
+        ReflectionTestUtils.setField(tagService, "tagCacheDuration", 3600L);
+        ReflectionTestUtils.setField(tagService, "tagCacheFolder",
+                cacheFolder.toString());
+        ReflectionTestUtils.setField(tagService, "tagCacheFormat", "binary");
+        ReflectionTestUtils.setField(tagService, "meterRegistry",
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+        httpClient.shutdown();
+    }
+
+    @Test
+    public void concurrentCacheMissesShareOneCrawl() throws Exception {
+        server.delay(300).enqueue(200,
+                StubGraphQlServer.page(null, "24.7.1", "24.7.0"));
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<VersionDetails>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return tagService.fetchAllTags("vaadin", "platform");
+                }));
+            }
+            start.countDown();
+
+            for (Future<List<VersionDetails>> result : results) {
+                Assertions.assertEquals(List.of("24.7.1", "24.7.0"),
+                        result.get().stream().map(VersionDetails::getVersion)
+                                .toList());
+            }
+            Assertions.assertEquals(1, server.requests().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void cacheFilesAreReplacedWithoutLeftovers() throws Exception {
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.0"));
+        tagService.refreshTags("vaadin", "platform", true);
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.1", "24.7.0"));
+        tagService.refreshTags("vaadin", "platform", true);
+
+        try (Stream<Path> files = Files.list(cacheFolder)) {
+            Assertions.assertEquals(
+                    List.of("github-tags-vaadin_platform.bin"),
+                    files.map(file -> file.getFileName().toString())
+                            .toList());
+        }
+        Assertions.assertEquals(2,
+                BinaryTagCache.read(cacheFolder
+                        .resolve("github-tags-vaadin_platform.bin")).size());
+    }
+
+    @Test
+    public void cacheAgeIsTakenFromTheCacheFile() throws Exception {
+        Path cacheFile = cacheFolder
+                .resolve("github-tags-vaadin_platform.bin");
+        BinaryTagCache.write(cacheFile, List.of(new VersionDetails("24.7.0",
+                OffsetDateTime.parse("2025-01-01T10:00:00Z"), "release-bot")));
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.1", "24.7.0"));
+
+        // written by an earlier run within the max age
+        Assertions.assertTrue(tagService.isCacheFresh("vaadin", "platform"));
+        Assertions.assertEquals(1,
+                tagService.fetchAllTags("vaadin", "platform").size());
+        Assertions.assertEquals(0, server.requests().size());
+
+        // an outdated file is not served after a restart
+        Files.setLastModifiedTime(cacheFile,
+                FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+        GitHubTagService restarted = new GitHubTagService();
+        ReflectionTestUtils.setField(restarted, "graphQlClient",
+                ReflectionTestUtils.getField(tagService, "graphQlClient"));
+        ReflectionTestUtils.setField(restarted, "tagCacheEnabled", true);
+        ReflectionTestUtils.setField(restarted, "tagCacheDuration", 3600L);
+        ReflectionTestUtils.setField(restarted, "tagCacheFolder",
+                cacheFolder.toString());
+        ReflectionTestUtils.setField(restarted, "tagCacheFormat", "binary");
+        ReflectionTestUtils.setField(restarted, "meterRegistry",
+                new SimpleMeterRegistry());
+
+        Assertions.assertFalse(restarted.isCacheFresh("vaadin", "platform"));
+        Assertions.assertEquals(1,
+                restarted.fetchCachedTags("vaadin", "platform").size());
+        Assertions.assertEquals(2,
+                restarted.fetchAllTags("vaadin", "platform").size());
+        Assertions.assertEquals(1, server.requests().size());
+        Assertions.assertTrue(restarted.isCacheFresh("vaadin", "platform"));
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.vaadin.platform.git;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JGitTagSourceTest {
+
+    @TempDir
+    Path remotes;
+    @TempDir
+    Path mirrors;
+
+    Git remote;
+    JGitTagSource tagSource;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        remote = Git.init()
+                .setDirectory(remotes.resolve("vaadin/platform").toFile())
+                .call();
+
+        tagSource = new JGitTagSource();
+        ReflectionTestUtils.setField(tagSource, "folder", mirrors.toString());
+        ReflectionTestUtils.setField(tagSource, "remoteUrl",
+                remotes.toUri() + "%s/%s");
+        ReflectionTestUtils.setField(tagSource, "maxAge", 3600L);
+        ReflectionTestUtils.setField(tagSource, "meterRegistry",
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        remote.close();
+    }
+
+    RevCommit commit(String author, String date) throws Exception {
+        PersonIdent ident = new PersonIdent(author, author + "@vaadin.com",
+                OffsetDateTime.parse(date).toInstant(), ZoneId.of("+02:00"));
+        return remote.commit().setAllowEmpty(true).setMessage(date)
+                .setAuthor(ident).setCommitter(ident).call();
+    }
+
+    static List<String> versions(List<VersionDetails> tags) {
+        return tags.stream()
+                .sorted(Comparator.comparing(VersionDetails::getVersion))
+                .map(VersionDetails::getVersion).toList();
+    }
+
+    @Test
+    public void readsAnnotatedAndLightweightTags() throws Exception {
+        RevCommit first = commit("alice", "2025-03-01T10:00:00Z");
+        remote.tag().setName("24.7.0").setObjectId(first).setAnnotated(false)
+                .call();
+        RevCommit second = commit("alice", "2025-03-20T10:00:00Z");
+        remote.tag().setName("24.7.1").setObjectId(second)
+                .setTagger(new PersonIdent("release-bot", "bot@vaadin.com",
+                        Instant.parse("2025-03-21T08:30:00Z"),
+                        ZoneId.of("Z")))
+                .setMessage("24.7.1").call();
+
+        List<VersionDetails> tags = tagSource.fetchAllTags("vaadin",
+                "platform");
+
+        Assertions.assertEquals(List.of("24.7.0", "24.7.1"), versions(tags));
+        VersionDetails lightweight = tags.stream()
+                .filter(tag -> tag.getVersion().equals("24.7.0")).findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(
+                OffsetDateTime.parse("2025-03-01T12:00:00+02:00"),
+                lightweight.getReleasedOn());
+        Assertions.assertEquals("alice", lightweight.getCreator());
+        VersionDetails annotated = tags.stream()
+                .filter(tag -> tag.getVersion().equals("24.7.1")).findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(OffsetDateTime.parse("2025-03-21T08:30:00Z"),
+                annotated.getReleasedOn());
+        Assertions.assertEquals("release-bot", annotated.getCreator());
+        Assertions.assertTrue(tagSource.isCacheFresh("vaadin", "platform"));
+    }
+
+    @Test
+    public void refreshFetchesNewTagsAndFullSyncDropsDeletedOnes()
+            throws Exception {
+        remote.tag().setName("24.7.0")
+                .setObjectId(commit("alice", "2025-03-01T10:00:00Z"))
+                .setAnnotated(false).call();
+        Assertions.assertNull(tagSource.fetchCachedTags("vaadin", "platform"));
+        tagSource.refreshTags("vaadin", "platform", false);
+
+        remote.tag().setName("24.8.0-alpha1")
+                .setObjectId(commit("bob", "2025-04-01T10:00:00Z"))
+                .setAnnotated(false).call();
+        remote.tagDelete().setTags("24.7.0").call();
+
+        Assertions.assertEquals(List.of("24.7.0", "24.8.0-alpha1"),
+                versions(tagSource.refreshTags("vaadin", "platform", false)));
+        Assertions.assertEquals(List.of("24.8.0-alpha1"),
+                versions(tagSource.refreshTags("vaadin", "platform", true)));
+
+        // served from the mirror without going to the remote
+        remote.tag().setName("24.8.0-alpha2")
+                .setObjectId(commit("bob", "2025-04-10T10:00:00Z"))
+                .setAnnotated(false).call();
+        Assertions.assertEquals(List.of("24.8.0-alpha1"),
+                versions(tagSource.fetchCachedTags("vaadin", "platform")));
+    }
+
+}
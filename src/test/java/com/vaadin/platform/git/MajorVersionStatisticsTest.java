@@ -0,0 +1,85 @@
+package com.vaadin.platform.git;
+
+import static com.vaadin.platform.git.VersionsTableTest.version;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MajorVersionStatisticsTest {
+
+    static MajorVersionStatistics statistics(VersionDetails... versions) {
+        return ReleaseIndex.of(List.of(versions)).majorVersionsInfo().get(0)
+                .getStatistics();
+    }
+
+    @Test
+    public void computesCadenceOfAMajorVersion() {
+        MajorVersionStatistics statistics = statistics(
+                version("24.7.0-alpha1", "2025-01-01", "bot"),
+                version("24.7.0-beta1", "2025-01-11", "bot"),
+                version("24.7.0", "2025-01-31", "alice"),
+                version("24.7.1", "2025-02-10", "bot"),
+                version("24.7.2", "2025-02-13", null),
+                version("24.7.3", "2025-05-14", "alice"));
+
+        // gaps of 10, 20, 10, 3 and 90 days
+        Assertions.assertEquals(Duration.ofDays(10), statistics.medianGap());
+        Assertions.assertEquals(Duration.ofDays(90), statistics.p90Gap());
+        Assertions.assertEquals(Duration.ofDays(30),
+                statistics.alphaToRelease());
+        Assertions.assertEquals(Duration.ofDays(103),
+                statistics.maintenanceTail());
+        Assertions.assertEquals(6 / (133 / 30.436875),
+                statistics.releasesPerMonth(), 0.001);
+        Assertions.assertEquals(List.of("bot", "alice"),
+                List.copyOf(statistics.releasesByCreator().keySet()));
+        Assertions.assertEquals(Map.of("bot", 3, "alice", 2),
+                statistics.releasesByCreator());
+    }
+
+    @Test
+    public void leavesOutFiguresWithoutData() {
+        MajorVersionStatistics statistics = statistics(
+                version("24.8.0-beta1", "2025-06-01", "bot"));
+
+        Assertions.assertNull(statistics.medianGap());
+        Assertions.assertNull(statistics.p90Gap());
+        Assertions.assertNull(statistics.alphaToRelease());
+        Assertions.assertNull(statistics.maintenanceTail());
+        Assertions.assertEquals(1, statistics.releasesPerMonth());
+
+        Assertions.assertEquals(Duration.ofDays(5),
+                statistics(version("24.8.0", "2025-06-01", "bot"),
+                        version("24.8.1", "2025-06-06", "bot"))
+                        .medianGap());
+        Assertions.assertNull(
+                statistics(version("24.8.0", "2025-06-01", "bot"))
+                        .alphaToRelease());
+    }
+
+    @Test
+    public void measuresReleaseCycleFromFirstPreReleaseWithoutAlpha() {
+        MajorVersionStatistics statistics = statistics(
+                version("24.8.0-beta1", "2025-05-01", "bot"),
+                version("24.8.0-rc1", "2025-05-20", "bot"),
+                version("24.8.0", "2025-06-01", "bot"));
+
+        Assertions.assertEquals(Duration.ofDays(31),
+                statistics.alphaToRelease());
+    }
+
+    @Test
+    public void computesStatisticsOfHandMadeInfos() {
+        MajorVersionInfo info = VersionsTableTest.major("24.7",
+                version("24.7.0", "2025-03-01", "alice"),
+                version("24.7.1", "2025-03-08", "bot"));
+
+        Assertions.assertEquals(Duration.ofDays(7),
+                info.getStatistics().maintenanceTail());
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.vaadin.platform.git;
+
+import static com.vaadin.platform.git.VersionsTableTest.version;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.platform.git.ReleaseHistogram.Resolution;
+import com.vaadin.platform.git.ReleaseHistogram.Slice;
+
+public class ReleaseHistogramTest {
+
+    ReleaseHistogram histogram = ReleaseHistogram.of(ReleaseIndex.of(List.of(
+            // Wednesday and Friday of the same week
+            version("24.6.0", "2025-01-01", "bot"),
+            version("24.6.1", "2025-01-03", "bot"),
+            version("24.7.0-alpha1", "2025-01-03", "bot"),
+            version("24.6.2", "2025-02-14", "bot"),
+            version("24.7.0", "2025-04-02", "bot"))));
+
+    static long millis(String date) {
+        return Instant.parse(date + "T00:00:00Z").toEpochMilli();
+    }
+
+    @Test
+    public void bucketsAlignToCalendarBoundaries() {
+        Assertions.assertEquals(millis("2024-12-30"), histogram.getFrom());
+        Assertions.assertEquals(millis("2025-04-07"), histogram.getTo());
+
+        Slice weeks = histogram.slice(Resolution.WEEK, histogram.getFrom(),
+                histogram.getTo());
+        Assertions.assertEquals(14, weeks.bucketStarts().length);
+        Assertions.assertEquals(List.of("24.6", "24.7"),
+                weeks.majorVersions());
+        Assertions.assertEquals(2, weeks.counts().get(0)[0]);
+        Assertions.assertEquals(1, weeks.counts().get(1)[0]);
+        Assertions.assertEquals(1, weeks.counts().get(1)[13]);
+
+        Slice quarters = histogram.slice(Resolution.QUARTER,
+                histogram.getFrom(), histogram.getTo());
+        Assertions.assertArrayEquals(
+                new long[] { millis("2025-01-01"), millis("2025-04-01") },
+                quarters.bucketStarts());
+        Assertions.assertArrayEquals(new int[] { 3, 0 },
+                quarters.counts().get(0));
+        Assertions.assertEquals(millis("2025-07-01"), quarters.to());
+    }
+
+    @Test
+    public void slicesOnlyTheRangeAndItsMajorVersions() {
+        Slice february = histogram.slice(Resolution.MONTH,
+                millis("2025-02-10"), millis("2025-02-20"));
+
+        Assertions.assertArrayEquals(new long[] { millis("2025-02-01") },
+                february.bucketStarts());
+        Assertions.assertEquals(millis("2025-03-01"), february.to());
+        Assertions.assertEquals(List.of("24.6"), february.majorVersions());
+        Assertions.assertArrayEquals(new int[] { 1 },
+                february.counts().get(0));
+    }
+
+    @Test
+    public void picksTheFinestResolutionWithinTheBudget() {
+        long from = histogram.getFrom();
+        long to = histogram.getTo();
+
+        Assertions.assertEquals(Resolution.WEEK,
+                histogram.resolutionFor(from, to, 20));
+        Assertions.assertEquals(Resolution.MONTH,
+                histogram.resolutionFor(from, to, 5));
+        Assertions.assertEquals(Resolution.QUARTER,
+                histogram.resolutionFor(from, to, 3));
+        Assertions.assertEquals(Resolution.YEAR,
+                histogram.resolutionFor(from, to, 1));
+    }
+
+    @Test
+    public void handlesSnapshotsWithoutReleases() {
+        ReleaseHistogram empty = new VersionsSnapshot(
+                new GitRepository("vaadin", "platform"), List.of(),
+                Instant.now()).getHistogram();
+
+        Assertions.assertTrue(empty.isEmpty());
+        Assertions.assertEquals(List.of(),
+                empty.slice(Resolution.WEEK, 0, 1).majorVersions());
+    }
+
+}
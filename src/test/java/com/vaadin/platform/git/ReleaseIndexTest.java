@@ -0,0 +1,121 @@
+package com.vaadin.platform.git;
+
+import static com.vaadin.platform.git.VersionsTableTest.version;
+import static com.vaadin.platform.git.VersionsTableTest.versions;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.platform.git.VersionKey.PreRelease;
+
+public class ReleaseIndexTest {
+
+    ReleaseIndex index = ReleaseIndex.of(List.of(
+            version("24.10.0", "2025-07-01", "alice"),
+            version("24.7.1", "2025-03-20", "bot"),
+            version("24.10.0-alpha1", "2025-05-10", "bot"),
+            new VersionDetails("24.7.0",
+                    OffsetDateTime.parse("2025-03-01T12:00:00+02:00"),
+                    "alice"),
+            version("24.7.10", "2025-06-02", null)));
+
+    @Test
+    public void groupsByMajorVersionInReleaseOrder() {
+        Assertions.assertEquals(5, index.size());
+        Assertions.assertEquals(2, index.majorCount());
+        Assertions.assertEquals("24.7", index.majorVersion(0));
+        Assertions.assertEquals(1, index.indexOf("24.10"));
+        Assertions.assertEquals(-1, index.indexOf("23.3"));
+        Assertions.assertEquals(2, index.find("24.7.10"));
+        Assertions.assertEquals(-1, index.find("24.7.2"));
+        Assertions.assertEquals(-1, index.find("23.3.0"));
+        Assertions.assertEquals(3, index.start(1));
+        Assertions.assertEquals(5, index.end(1));
+        Assertions.assertEquals(List.of("24.7.0", "24.7.1", "24.7.10"),
+                versions(index.versions(0)));
+        Assertions.assertEquals(List.of("24.10.0-alpha1", "24.10.0"),
+                versions(index.versions(1)));
+    }
+
+    @Test
+    public void storesColumns() {
+        Assertions.assertEquals(
+                Instant.parse("2025-03-01T10:00:00Z").toEpochMilli(),
+                index.releasedOn(0));
+        Assertions.assertEquals(ZoneOffset.ofHours(2),
+                index.releasedOnDate(0).getOffset());
+        Assertions.assertEquals(24, index.major(2));
+        Assertions.assertEquals(7, index.minor(2));
+        Assertions.assertEquals(10, index.patch(2));
+        Assertions.assertEquals(PreRelease.ALPHA, index.preRelease(3));
+        Assertions.assertTrue(index.isPreRelease(3));
+        Assertions.assertTrue(index.isPreRelease(0));
+        Assertions.assertFalse(index.isPreRelease(1));
+        Assertions.assertEquals(PreRelease.FINAL, index.preRelease(4));
+        Assertions.assertNull(index.creator(2));
+        Assertions.assertEquals("bot", index.creator(3));
+        Assertions.assertEquals(2, index.creatorCount());
+        Assertions.assertEquals(
+                new VersionDetails("24.7.0",
+                        OffsetDateTime.parse("2025-03-01T12:00:00+02:00"),
+                        "alice").toString(),
+                index.details(0).toString());
+    }
+
+    @Test
+    public void aggregatesMajorVersions() {
+        List<MajorVersionInfo> infos = index.majorVersionsInfo();
+
+        Assertions.assertEquals(2, infos.size());
+        MajorVersionInfo info = infos.get(0);
+        Assertions.assertEquals("24.7", info.getMajorVersion());
+        Assertions.assertEquals(3, info.getNumberOfReleases());
+        Assertions.assertEquals(1, info.getNumberOfPreReleases());
+        Assertions.assertEquals(index.releasedOnDate(0),
+                info.getFirstRelease());
+        Assertions.assertEquals(OffsetDateTime.parse("2025-06-02T12:00:00Z"),
+                info.getLastRelease());
+        Assertions.assertEquals(info.getFirstRelease(),
+                info.getLastPreRelease());
+        Assertions.assertEquals(List.of("24.7.0"),
+                versions(info.getPreVersions()));
+        Assertions.assertSame(index, info.getIndex());
+        Assertions.assertSame(index, infos.get(1).getIndex());
+        Assertions.assertEquals(2, infos.get(1).getNumberOfPreReleases());
+        Assertions.assertEquals(1, index.preReleaseCount(0));
+        Assertions.assertEquals(4, index.preRelease(1, 1));
+        // views that keep no rows of their own
+        Assertions.assertNotSame(info.getAllVersions().get(0),
+                info.getAllVersions().get(0));
+        Assertions.assertEquals(info.getAllVersions().get(0),
+                info.getPreVersions().get(0));
+        Assertions.assertSame(info.getPreVersions(), info.getPreVersions());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> info.getAllVersions().add(version("24.7.2",
+                        "2025-07-01", "bot")));
+    }
+
+    @Test
+    public void snapshotsShareTheConsolidatedIndex() {
+        VersionsSnapshot snapshot = new VersionsSnapshot(
+                new GitRepository("vaadin", "platform"),
+                index.majorVersionsInfo(), Instant.now());
+        Assertions.assertSame(index, snapshot.getIndex());
+
+        VersionsSnapshot byHand = new VersionsSnapshot(
+                new GitRepository("vaadin", "platform"),
+                List.of(VersionsTableTest.major("24.7",
+                        version("24.7.0", "2025-03-01", "alice"))),
+                Instant.now());
+        Assertions.assertEquals(1, byHand.getIndex().size());
+        Assertions.assertEquals(0,
+                new VersionsSnapshot(new GitRepository("vaadin", "platform"),
+                        List.of(), Instant.now()).getIndex().size());
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.vaadin.platform.git;
+
+import static com.vaadin.platform.git.VersionsTableTest.version;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReleaseNotesRendererTest {
+
+    ReleaseIndex index = ReleaseIndex.of(List.of(
+            version("24.7.0", "2025-03-01", "alice"),
+            version("24.8.0-alpha1", "2025-04-01", "bot"),
+            version("24.7.1", "2025-03-20", "bot"),
+            version("24.8.0", "2025-06-01", "alice"),
+            version("24.7.2", "2025-05-10", "bot")));
+
+    @Test
+    public void selectsLatestVersionsNewestFirst() {
+        Assertions.assertEquals(List.of("24.8.0", "24.7.2", "24.8.0-alpha1"),
+                versions(ReleaseNotesRenderer.latest(index, 3)));
+        Assertions.assertEquals(5,
+                ReleaseNotesRenderer.latest(index, 10).length);
+        Assertions.assertEquals(0,
+                ReleaseNotesRenderer.latest(index, 0).length);
+        Assertions.assertEquals(0, ReleaseNotesRenderer
+                .latest(ReleaseIndex.of(List.of()), 3).length);
+    }
+
+    List<String> versions(int[] positions) {
+        return Arrays.stream(positions).mapToObj(index::version).toList();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Minimal local GraphQL endpoint for tests. Responses are served in the order
+ * they were enqueued; the last one is repeated once the queue runs empty.
+ */
+class StubGraphQlServer implements AutoCloseable {
+
+    record Response(int status, String body, Map<String, String> headers) {
+    }
+
+    private final HttpServer server;
+    private final ConcurrentLinkedQueue<Response> responses = new ConcurrentLinkedQueue<>();
+    private final List<String> requests = Collections
+            .synchronizedList(new ArrayList<>());
+    private volatile Response last;
+    private volatile long delayMillis;
+
+    StubGraphQlServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0),
+                0);
+        this.server.createContext("/graphql", this::handle);
+        this.server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + this.server.getAddress().getPort()
+                + "/graphql";
+    }
+
+    StubGraphQlServer enqueue(final int status, final String body) {
+        return this.enqueue(status, body, Map.of());
+    }
+
+    StubGraphQlServer enqueue(final int status, final String body,
+            final Map<String, String> headers) {
+        this.responses.add(new Response(status, body, headers));
+        return this;
+    }
+
+    /**
+     * Delays every response, e.g. to let concurrent requests overlap.
+     */
+    StubGraphQlServer delay(final long millis) {
+        this.delayMillis = millis;
+        return this;
+    }
+
+    List<String> requests() {
+        return this.requests;
+    }
+
+    /**
+     * Builds a GraphQL response body with one page of annotated tags.
+     */
+    static String page(final String endCursor, final String... tags) {
+        final StringBuilder nodes = new StringBuilder();
+        for (int i = 0; i < tags.length; i++) {
+            if (i > 0) {
+                nodes.append(',');
+            }
+            nodes.append("""
+                    {"name":"%s","target":{"__typename":"Tag","tagger":\
+                    {"name":"Release Bot","date":"2025-01-%02dT10:00:00Z",\
+                    "user":{"login":"release-bot"}}}}""".formatted(tags[i],
+                    i % 28 + 1));
+        }
+        return """
+                {"data":{"repository":{"refs":{"pageInfo":\
+                {"hasNextPage":%s,"endCursor":%s},"nodes":[%s]}}}}"""
+                .formatted(endCursor != null,
+                        endCursor == null ? "null" : '"' + endCursor + '"',
+                        nodes);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        this.requests.add(new String(exchange.getRequestBody().readAllBytes(),
+                StandardCharsets.UTF_8));
+        Response response = this.responses.poll();
+        if (response == null) {
+            response = this.last;
+        } else {
+            this.last = response;
+        }
+        if (this.delayMillis > 0) {
+            try {
+                Thread.sleep(this.delayMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        response.headers()
+                .forEach((k, v) -> exchange.getResponseHeaders().add(k, v));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+
+}
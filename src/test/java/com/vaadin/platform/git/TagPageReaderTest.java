@@ -0,0 +1,84 @@
+package com.vaadin.platform.git;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TagPageReaderTest {
+
+    static TagPageReader.Page read(String response) throws IOException {
+        try (JsonParser parser = new ObjectMapper().createParser(response)) {
+            return new GitHubGraphQlClient().readResponse(parser,
+                    new TagPageReader(100));
+        }
+    }
+
+    @Test
+    public void readsAnnotatedAndLightweightTags() throws IOException {
+        TagPageReader.Page page = read("""
+                {"data":{"rateLimit":{"cost":1,"remaining":4999,\
+                "resetAt":"2030-01-01T00:00:00Z"},"repository":{"refs":{\
+                "nodes":[\
+                {"name":"24.7.0","target":{"__typename":"Tag","tagger":\
+                {"name":"Release Bot","date":"2025-03-31T12:15:30+03:00",\
+                "user":{"login":"release-bot"}}}},\
+                {"target":{"committedDate":"2025-04-01T08:00:00Z",\
+                "author":{"user":null,"name":"Jane Doe","email":"j@x"},\
+                "__typename":"Commit","oid":"abc"},"name":"24.7.1"},\
+                {"name":"24.7.2","target":{"__typename":"Tag","tagger":\
+                {"date":"2025-04-02T08:00:00Z","user":null}}}],\
+                "pageInfo":{"hasNextPage":true,"endCursor":"c2"}}}}}""");
+
+        Assertions.assertEquals("c2", page.endCursor());
+        Assertions.assertEquals(3, page.tags().size());
+
+        VersionDetails tag = page.tags().get(0);
+        Assertions.assertEquals("24.7.0", tag.getVersion());
+        Assertions.assertEquals(
+                OffsetDateTime.parse("2025-03-31T12:15:30+03:00"),
+                tag.getReleasedOn());
+        Assertions.assertEquals("release-bot", tag.getCreator());
+
+        VersionDetails commit = page.tags().get(1);
+        Assertions.assertEquals("24.7.1", commit.getVersion());
+        Assertions.assertEquals(OffsetDateTime.parse("2025-04-01T08:00:00Z"),
+                commit.getReleasedOn());
+        Assertions.assertEquals("Jane Doe", commit.getCreator());
+
+        Assertions.assertEquals("", page.tags().get(2).getCreator());
+    }
+
+    @Test
+    public void lastPageHasNoCursor() throws IOException {
+        TagPageReader.Page page = read(
+                StubGraphQlServer.page(null, "24.7.0", "24.6.9"));
+
+        Assertions.assertNull(page.endCursor());
+        Assertions.assertEquals(2, page.tags().size());
+    }
+
+    @Test
+    public void reportsQueryErrors() {
+        Assertions.assertThrows(IOException.class, () -> read("""
+                {"data":{"repository":null},"errors":[{"type":"NOT_FOUND",\
+                "message":"Could not resolve to a Repository"}]}"""));
+    }
+
+    @Test
+    public void parsesGitHubTimestamps() {
+        for (String text : new String[] { "2025-03-31T12:15:30Z",
+                "2025-03-31T12:15:30+03:00", "2025-03-31T12:15:30-05:30",
+                "2025-03-31T12:15:30.123Z", "2025-03-31T12:15Z" }) {
+            Assertions.assertEquals(OffsetDateTime.parse(text),
+                    TagPageReader.parseDate(text), text);
+        }
+        Assertions.assertThrows(RuntimeException.class,
+                () -> TagPageReader.parseDate("2025-02-30T12:15:30Z"));
+    }
+
+}
@@ -0,0 +1,290 @@
+package com.vaadin.platform.git;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TagRefreshSchedulerTest {
+
+    @TempDir
+    Path cacheFolder;
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    StubGraphQlServer server;
+    GitHubHttpClient httpClient;
+    GitHubTagService tagService;
+    GitService gitService;
+    VersionsSnapshotService snapshotService;
+    TagRefreshScheduler scheduler;
+
+    static final GitRepository PLATFORM = new GitRepository("vaadin",
+            "platform");
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new StubGraphQlServer();
+
+        httpClient = GitHubGraphQlClientTest.newHttpClient(registry);
+
+        tagService = new GitHubTagService();
+        ReflectionTestUtils.setField(tagService, "graphQlClient",
+                GitHubGraphQlClientTest.newClient(httpClient, server.url(),
+                        new CopyOnWriteArrayList<>()));
+        ReflectionTestUtils.setField(tagService, "tagCacheEnabled", true);
+        ReflectionTestUtils.setField(tagService, "tagCacheDuration", 3600L);
+        ReflectionTestUtils.setField(tagService, "tagCacheFolder",
+                cacheFolder.toString());
+        ReflectionTestUtils.setField(tagService, "tagCacheFormat", "binary");
+        ReflectionTestUtils.setField(tagService, "meterRegistry", registry);
+
+        gitService = new GitService();
+        ReflectionTestUtils.setField(gitService, "tagSource",
+                tagService);
+        ReflectionTestUtils.setField(gitService, "meterRegistry", registry);
+
+        scheduler = scheduler(gitService, tagService, "vaadin/platform");
+    }
+
+    TagRefreshScheduler scheduler(GitService gitService,
+            GitHubTagService tagService, String repositories) {
+        snapshotService = new VersionsSnapshotService(gitService,
+                event -> {
+                }, repositories);
+        TagRefreshScheduler scheduler = new TagRefreshScheduler(tagService,
+                snapshotService);
+        ReflectionTestUtils.setField(scheduler, "refreshInterval", 3000L);
+        ReflectionTestUtils.setField(scheduler, "fullSyncInterval", 86400L);
+        ReflectionTestUtils.setField(scheduler, "initialBackoff", 30L);
+        ReflectionTestUtils.setField(scheduler, "maxBackoff", 100L);
+        ReflectionTestUtils.setField(scheduler, "parallelism", 2);
+        return scheduler;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.stop();
+        server.close();
+        httpClient.shutdown();
+    }
+
+    @Test
+    public void refreshPublishesNewSnapshot() throws Exception {
+        server.enqueue(200, StubGraphQlServer.page("c1", "24.7.0", "24.7.1"))
+                .enqueue(200, StubGraphQlServer.page(null, "24.8.0-alpha1"));
+
+        Assertions.assertTrue(scheduler.refreshNow());
+
+        VersionsSnapshot snapshot = snapshotService.getSnapshot();
+        Assertions.assertEquals(2, server.requests().size());
+        Assertions.assertEquals(2, registry.get("releases.github.requests")
+                .tag("outcome", "success").timer().count());
+        Assertions.assertEquals(2, snapshot.getVersionsInfo().size());
+        Assertions.assertEquals("24.8", snapshot.getVersionsInfo().get(1)
+                .getMajorVersion());
+        Assertions.assertEquals(3000L, scheduler.nextDelay(PLATFORM));
+    }
+
+    @Test
+    public void refreshCrawlsOnceWithoutTagCache() throws Exception {
+        ReflectionTestUtils.setField(tagService, "tagCacheEnabled", false);
+        server.enqueue(200, StubGraphQlServer.page("c1", "24.7.0", "24.7.1"))
+                .enqueue(200, StubGraphQlServer.page(null, "24.8.0-alpha1"));
+
+        Assertions.assertTrue(scheduler.refreshNow());
+
+        // the crawled tags are consolidated as they are, not loaded again
+        Assertions.assertEquals(2, server.requests().size());
+        Assertions.assertEquals(1, registry.get("releases.tags.crawl")
+                .timer().count());
+        Assertions.assertEquals(3, registry.get("releases.tags.count")
+                .tag("repository", "vaadin/platform").gauge().value());
+        Assertions.assertEquals(2, snapshotService.getSnapshot()
+                .getVersionsInfo().size());
+    }
+
+    @Test
+    public void recordsCrawlAndCacheMetrics() throws Exception {
+        server.enqueue(200, StubGraphQlServer.page("c1", "24.7.0"))
+                .enqueue(200, StubGraphQlServer.page(null, "24.7.1"));
+        Assertions.assertTrue(scheduler.refreshNow());
+        snapshotService.getSnapshot(PLATFORM);
+        gitService.consolidatedVersionsInfo(PLATFORM);
+
+        Assertions.assertEquals(2, registry.get("releases.graphql.page")
+                .tags("repository", "vaadin/platform", "outcome", "success")
+                .timer().count());
+        Assertions.assertEquals(1, registry.get("releases.tags.crawl")
+                .tags("sync", "full", "outcome", "success").timer().count());
+        Assertions.assertTrue(registry.get("releases.tags.cache.requests")
+                .tag("result", "hit").counter().count() >= 1);
+        Assertions.assertEquals(2, registry.get("releases.tags.count")
+                .tag("repository", "vaadin/platform").gauge().value());
+        Assertions.assertTrue(registry.get("releases.versions.consolidate")
+                .timer().count() >= 1);
+        Assertions.assertEquals(2, registry.get("releases.github.requests")
+                .timer().count());
+        Assertions.assertEquals(0, registry
+                .get("releases.github.requests.waiting").gauge().value());
+    }
+
+    @Test
+    public void laterRefreshesAreIncremental() throws Exception {
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.1", "24.7.0"));
+        Assertions.assertTrue(scheduler.refreshNow());
+
+        server.enqueue(200,
+                StubGraphQlServer.page("c1", "24.8.0-alpha1", "24.7.1"));
+        Assertions.assertTrue(scheduler.refreshNow());
+        Assertions.assertEquals(2, server.requests().size());
+        Assertions.assertEquals(3, snapshotService.getSnapshot()
+                .getVersionsInfo().stream()
+                .mapToInt(MajorVersionInfo::getNumberOfReleases).sum());
+
+        // a full resync drops the deleted 24.7.0 tag
+        server.enqueue(200,
+                StubGraphQlServer.page(null, "24.8.0-alpha1", "24.7.1"));
+        Assertions.assertTrue(scheduler.fullResyncNow());
+        Assertions.assertEquals(2, snapshotService.getSnapshot()
+                .getVersionsInfo().stream()
+                .mapToInt(MajorVersionInfo::getNumberOfReleases).sum());
+    }
+
+    @Test
+    public void failedRefreshKeepsPreviousSnapshotAndBacksOff()
+            throws Exception {
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.0"))
+                .enqueue(502, "Bad Gateway");
+        Assertions.assertTrue(scheduler.refreshNow());
+        VersionsSnapshot previous = snapshotService.getSnapshot();
+
+        Assertions.assertFalse(scheduler.refreshNow());
+        Assertions.assertSame(previous, snapshotService.getSnapshot());
+        Assertions.assertEquals(30L, scheduler.nextDelay(PLATFORM));
+
+        Assertions.assertFalse(scheduler.refreshNow());
+        Assertions.assertEquals(60L, scheduler.nextDelay(PLATFORM));
+
+        Assertions.assertFalse(scheduler.refreshNow());
+        Assertions.assertFalse(scheduler.refreshNow());
+        Assertions.assertEquals(100L, scheduler.nextDelay(PLATFORM));
+
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.0", "24.7.1"));
+        Assertions.assertTrue(scheduler.refreshNow());
+        Assertions.assertNotSame(previous, snapshotService.getSnapshot());
+        Assertions.assertEquals(0, scheduler.getFailures(PLATFORM));
+        Assertions.assertEquals(3000L, scheduler.nextDelay(PLATFORM));
+    }
+
+    @Test
+    public void refreshesAllRepositories() throws Exception {
+        scheduler.stop();
+        scheduler = scheduler(gitService, tagService,
+                "vaadin/platform, vaadin/flow");
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.0", "24.7.1"));
+
+        Assertions.assertTrue(scheduler.refreshNow());
+
+        Assertions.assertEquals(2, server.requests().size());
+        Assertions.assertTrue(server.requests().stream()
+                .anyMatch(body -> body.contains("\"name\":\"flow\"")));
+        Assertions.assertTrue(server.requests().stream()
+                .anyMatch(body -> body.contains("\"name\":\"platform\"")));
+        for (GitRepository repository : snapshotService.getRepositories()) {
+            VersionsSnapshot snapshot = snapshotService
+                    .getSnapshot(repository);
+            Assertions.assertEquals(repository, snapshot.getRepository());
+            Assertions.assertEquals(2, snapshot.getVersionsInfo().get(0)
+                    .getNumberOfReleases());
+        }
+        Assertions.assertEquals(snapshotService.getSnapshot(),
+                snapshotService.getSnapshot(
+                        new GitRepository("vaadin", "platform")));
+    }
+
+    @Test
+    public void refreshesExpiredSnapshotLazilyWithoutScheduler()
+            throws Exception {
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.0"));
+        ReflectionTestUtils.setField(snapshotService, "maxAge", -1L);
+
+        VersionsSnapshot first = snapshotService.getSnapshot();
+        Assertions.assertSame(first, snapshotService.getSnapshot());
+
+        ReflectionTestUtils.setField(snapshotService, "backgroundRefresh",
+                false);
+        VersionsSnapshot second = snapshotService.getSnapshot();
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(1, second.getVersionsInfo().size());
+    }
+
+    @Test
+    public void backsOffFailingRepositoriesOnly() throws Exception {
+        scheduler.stop();
+        scheduler = scheduler(gitService, tagService,
+                "vaadin/platform, vaadin/flow");
+        // one crawl thread, so platform gets the successful response
+        ReflectionTestUtils.setField(scheduler, "parallelism", 1);
+        server.enqueue(200, StubGraphQlServer.page(null, "24.7.0"))
+                .enqueue(404, "Not Found");
+
+        Assertions.assertFalse(scheduler.refreshNow());
+
+        GitRepository flow = new GitRepository("vaadin", "flow");
+        Assertions.assertEquals(0, scheduler.getFailures(PLATFORM));
+        Assertions.assertEquals(3000L, scheduler.nextDelay(PLATFORM));
+        Assertions.assertEquals(1, scheduler.getFailures(flow));
+        Assertions.assertEquals(30L, scheduler.nextDelay(flow));
+    }
+
+    @Test
+    public void warmUpServesOutdatedCacheAndRefreshesInBackground()
+            throws Exception {
+        Path cacheFile = cacheFolder
+                .resolve("github-tags-vaadin_platform.bin");
+        BinaryTagCache.write(cacheFile, List.of(new VersionDetails("24.7.0",
+                OffsetDateTime.parse("2025-01-01T10:00:00Z"), "release-bot")));
+        Files.setLastModifiedTime(cacheFile,
+                FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+        server.delay(200).enqueue(200,
+                StubGraphQlServer.page(null, "24.7.1", "24.7.0"));
+        ReflectionTestUtils.setField(scheduler, "refreshEnabled", true);
+        SnapshotsHealthIndicator health = new SnapshotsHealthIndicator(
+                snapshotService);
+        Assertions.assertEquals(Status.OUT_OF_SERVICE,
+                health.health().getStatus());
+
+        List<GitRepository> outdated = new TagCacheWarmup(snapshotService,
+                scheduler).warmUp();
+
+        Assertions.assertEquals(List.of(new GitRepository("vaadin",
+                "platform")), outdated);
+        Assertions.assertEquals(Status.UP, health.health().getStatus());
+        Assertions.assertEquals(1, snapshotService.getSnapshot()
+                .getVersionsInfo().get(0).getNumberOfReleases());
+
+        // the outdated cache gets refreshed right away
+        for (int i = 0; i < 100 && snapshotService.getSnapshot()
+                .getVersionsInfo().get(0).getNumberOfReleases() == 1; i++) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(2, snapshotService.getSnapshot()
+                .getVersionsInfo().get(0).getNumberOfReleases());
+        Assertions.assertEquals(1, server.requests().size());
+    }
+
+}
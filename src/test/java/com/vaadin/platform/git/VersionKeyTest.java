@@ -0,0 +1,87 @@
+package com.vaadin.platform.git;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.platform.git.VersionKey.PreRelease;
+
+public class VersionKeyTest {
+
+    @Test
+    public void parsesReleasesAndPreReleases() {
+        VersionKey key = VersionKey.parse("24.7.12");
+        Assertions.assertEquals(24, key.getMajor());
+        Assertions.assertEquals(7, key.getMinor());
+        Assertions.assertEquals(12, key.getPatch());
+        Assertions.assertEquals(PreRelease.FINAL, key.getPreRelease());
+        Assertions.assertEquals("24.7", key.getMajorVersion());
+        Assertions.assertFalse(key.isPreRelease());
+
+        key = VersionKey.parse("24.8.0-alpha3");
+        Assertions.assertEquals(PreRelease.ALPHA, key.getPreRelease());
+        Assertions.assertEquals(3, key.getPreReleaseNumber());
+        Assertions.assertTrue(key.isPreRelease());
+
+        key = VersionKey.parse("14.0.0.rc12");
+        Assertions.assertEquals(PreRelease.RC, key.getPreRelease());
+        Assertions.assertEquals(12, key.getPreReleaseNumber());
+
+        Assertions.assertTrue(VersionKey.parse("24.8.0").isPreRelease());
+        Assertions.assertFalse(VersionKey.parse("24.10").isPreRelease());
+    }
+
+    @Test
+    public void parsesUnexpectedTagsLeniently() {
+        VersionKey key = VersionKey.parse("release");
+        Assertions.assertEquals(0, key.getMajor());
+        Assertions.assertEquals(PreRelease.FINAL, key.getPreRelease());
+
+        key = VersionKey.parse("24.7-SNAPSHOT");
+        Assertions.assertEquals(7, key.getMinor());
+        Assertions.assertEquals(PreRelease.SNAPSHOT, key.getPreRelease());
+    }
+
+    @Test
+    public void requiresQualifierAtEndForPreRelease() {
+        // the rule of the former .*(\.0|(SNAPSHOT|alpha|beta|rc)\d*)
+        Assertions.assertTrue(VersionKey.parse("24.8.0-SNAPSHOT1")
+                .isPreRelease());
+        Assertions.assertTrue(VersionKey.parse("24.8.0.beta2").isPreRelease());
+        Assertions.assertTrue(VersionKey.parse("24.8-SNAPSHOT")
+                .isPreRelease());
+        Assertions.assertTrue(VersionKey.parse("24.8.0-alpha").isPreRelease());
+
+        VersionKey key = VersionKey.parse("24.8.0-alphaX");
+        Assertions.assertEquals(PreRelease.ALPHA, key.getPreRelease());
+        Assertions.assertFalse(key.isPreRelease());
+        Assertions.assertFalse(VersionKey.parse("24.8.0-rcfoo").isPreRelease());
+        Assertions.assertFalse(VersionKey.parse("24.8.0-rc1-hotfix")
+                .isPreRelease());
+
+        key = VersionKey.parse("24.8.0-foo1");
+        Assertions.assertEquals(PreRelease.FINAL, key.getPreRelease());
+        Assertions.assertFalse(key.isPreRelease());
+        Assertions.assertTrue(VersionKey.parse("24.8.0-foo.0").isPreRelease());
+    }
+
+    @Test
+    public void ordersByNumbersThenQualifier() {
+        List<String> expected = List.of("9.0.0", "23.3.1", "24.0.0-SNAPSHOT",
+                "24.0.0.alpha2", "24.0.0-alpha10", "24.0.0-beta1",
+                "24.0.0.rc1", "24.0.0", "24.0.1", "24.10.0");
+        List<VersionKey> keys = new ArrayList<>();
+        expected.forEach(version -> keys.add(VersionKey.parse(version)));
+        Collections.shuffle(keys);
+        Collections.sort(keys);
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(VersionKey.parse(expected.get(i)),
+                    keys.get(i));
+        }
+    }
+
+}
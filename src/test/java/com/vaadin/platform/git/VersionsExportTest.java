@@ -0,0 +1,84 @@
+package com.vaadin.platform.git;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.platform.git.VersionsExport.Format;
+
+public class VersionsExportTest {
+
+    ReleaseIndex index = ReleaseIndex.of(List.of(
+            VersionsTableTest.version("24.7.0", "2025-03-01",
+                    "Doe, \"JD\" John"),
+            VersionsTableTest.version("24.7.1", "2025-03-20", null),
+            VersionsTableTest.version("24.8.0-alpha1", "2025-04-02", "bot")));
+
+    String export(Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VersionsExport.write(format, index, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void writesCsvWithQuotedFields() throws Exception {
+        Assertions.assertEquals("""
+                Version,Major Version,Released On,Creator\r
+                24.7.0,24.7,2025-03-01T12:00:00Z,"Doe, ""JD"" John"\r
+                24.7.1,24.7,2025-03-20T12:00:00Z,\r
+                24.8.0-alpha1,24.8,2025-04-02T12:00:00Z,bot\r
+                """, export(Format.CSV));
+    }
+
+    @Test
+    public void guardsCsvFieldsAgainstFormulas() {
+        Assertions.assertEquals("\"'=HYPERLINK(\"\"x\"\")\"",
+                VersionsExport.csvField("=HYPERLINK(\"x\")"));
+        Assertions.assertEquals("\"'+1\"", VersionsExport.csvField("+1"));
+        Assertions.assertEquals("\"'-1\"", VersionsExport.csvField("-1"));
+        Assertions.assertEquals("\"'@bot\"", VersionsExport.csvField("@bot"));
+        Assertions.assertEquals("a=b", VersionsExport.csvField("a=b"));
+    }
+
+    @Test
+    public void writesOneJsonObjectPerLine() throws Exception {
+        String[] lines = export(Format.JSON_LINES).split("\n");
+        Assertions.assertEquals(3, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        Assertions.assertEquals("24.7.0", first.get("version").asText());
+        Assertions.assertEquals("24.7", first.get("majorVersion").asText());
+        Assertions.assertEquals("2025-03-01T12:00:00Z",
+                first.get("releasedOn").asText());
+        Assertions.assertTrue(
+                new ObjectMapper().readTree(lines[1]).get("creator").isNull());
+    }
+
+    @Test
+    public void writesReadableWorkbook() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VersionsExport.write(Format.XLSX, index, out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(
+                new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Vaadin Versions");
+            Assertions.assertEquals(3, sheet.getLastRowNum());
+            Assertions.assertEquals("Creator",
+                    sheet.getRow(0).getCell(3).getStringCellValue());
+            Assertions.assertEquals("24.8.0-alpha1",
+                    sheet.getRow(3).getCell(0).getStringCellValue());
+            Assertions.assertEquals("bot",
+                    sheet.getRow(3).getCell(3).getStringCellValue());
+            Assertions.assertEquals(2025, sheet.getRow(1).getCell(2)
+                    .getLocalDateTimeCellValue().getYear());
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.vaadin.platform.git;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.platform.git.VersionsTable.Column;
+import com.vaadin.platform.git.VersionsTable.Filter;
+import com.vaadin.platform.git.VersionsTable.Sort;
+
+public class VersionsTableTest {
+
+    VersionsTable table;
+
+    @BeforeEach
+    public void setup() {
+        table = new VersionsTable(ReleaseIndex.of(List.of(
+                version("24.7.0", "2025-03-01", "alice"),
+                version("24.7.1", "2025-03-20", "bot"),
+                version("24.7.10", "2025-06-02", null),
+                version("24.10.0-alpha1", "2025-05-10", "Bot"),
+                version("24.10.0", "2025-07-01", "alice"))));
+    }
+
+    static MajorVersionInfo major(String majorVersion,
+            VersionDetails... versions) {
+        MajorVersionInfo info = new MajorVersionInfo();
+        info.setMajorVersion(majorVersion);
+        info.setAllVersions(List.of(versions));
+        return info;
+    }
+
+    static VersionDetails version(String version, String date,
+            String creator) {
+        return new VersionDetails(version,
+                OffsetDateTime.parse(date + "T12:00:00Z"), creator);
+    }
+
+    static List<String> versions(List<VersionDetails> rows) {
+        return rows.stream().map(VersionDetails::getVersion).toList();
+    }
+
+    @Test
+    public void fetchesPagesInSnapshotOrder() {
+        Assertions.assertEquals(5, table.count(Filter.NONE));
+        Assertions.assertEquals(List.of("24.7.1", "24.7.10"),
+                versions(table.fetch(Filter.NONE, List.of(), 1, 2)));
+        Assertions.assertEquals(List.of("24.10.0"),
+                versions(table.fetch(Filter.NONE, List.of(), 4, 50)));
+        Assertions.assertEquals(List.of(),
+                versions(table.fetch(Filter.NONE, List.of(), 10, 50)));
+    }
+
+    @Test
+    public void filtersByAllCriteria() {
+        Filter creator = new Filter(null, null, "BOT", null, null);
+        Assertions.assertEquals(2, table.count(creator));
+        Assertions.assertEquals(List.of("24.7.1", "24.10.0-alpha1"),
+                versions(table.fetch(creator, List.of(), 0, 50)));
+
+        Filter major = new Filter("0", "24.10", null, null, null);
+        Assertions.assertEquals(List.of("24.10.0-alpha1", "24.10.0"),
+                versions(table.fetch(major, List.of(), 0, 50)));
+
+        Filter range = new Filter(null, null, null,
+                LocalDate.parse("2025-03-20"), LocalDate.parse("2025-06-02"));
+        Assertions.assertEquals(
+                List.of("24.7.1", "24.7.10", "24.10.0-alpha1"),
+                versions(table.fetch(range, List.of(), 0, 50)));
+        Assertions.assertEquals(3, table.count(range));
+    }
+
+    @Test
+    public void sortsByColumns() {
+        Assertions.assertEquals(
+                List.of("24.10.0", "24.10.0-alpha1", "24.7.10", "24.7.1",
+                        "24.7.0"),
+                versions(table.fetch(Filter.NONE,
+                        List.of(new Sort(Column.VERSION, true)), 0, 50)));
+        Assertions.assertEquals(
+                List.of("24.7.10", "24.10.0", "24.7.0", "24.10.0-alpha1",
+                        "24.7.1"),
+                versions(table.fetch(Filter.NONE,
+                        List.of(new Sort(Column.CREATOR, false),
+                                new Sort(Column.RELEASED_ON, true)),
+                        0, 50)));
+        Assertions.assertEquals(List.of("24.10.0-alpha1", "24.10.0"),
+                versions(table.fetch(Filter.NONE,
+                        List.of(new Sort(Column.MAJOR_VERSION, true)), 0, 2)));
+    }
+
+    @Test
+    public void keepsResultsOfInterleavedQueries() {
+        Filter bot = new Filter(null, null, "bot", null, null);
+        List<Sort> newest = List.of(new Sort(Column.RELEASED_ON, true));
+
+        List<VersionDetails> first = table.fetch(bot, newest, 0, 50);
+        table.fetch(Filter.NONE, List.of(), 0, 50);
+        Assertions.assertEquals(versions(first),
+                versions(table.fetch(bot, newest, 0, 50)));
+        Assertions.assertEquals(List.of("24.10.0-alpha1", "24.7.1"),
+                versions(first));
+        Assertions.assertEquals(0,
+                table.count(new Filter(null, "23.3", null, null, null)));
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.vaadin.platform.views.releases;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.platform.git.GitRepository;
+import com.vaadin.platform.git.MajorVersionInfo;
+import com.vaadin.platform.git.ReleaseIndex;
+import com.vaadin.platform.git.VersionDetails;
+
+public class VersionsTimelineChartTest {
+
+    static final GitRepository PLATFORM = new GitRepository("vaadin",
+            "platform");
+
+    static List<MajorVersionInfo> info(String... versionsAndDates) {
+        VersionDetails[] versions = new VersionDetails[versionsAndDates.length
+                / 2];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = new VersionDetails(versionsAndDates[2 * i],
+                    OffsetDateTime
+                            .parse(versionsAndDates[2 * i + 1] + "T12:00:00Z"),
+                    "bot");
+        }
+        return ReleaseIndex.of(Arrays.asList(versions)).majorVersionsInfo();
+    }
+
+    static List<String> shown(VersionsTimelineChart chart) {
+        return ((DataSeries) chart.getConfiguration().getSeries().get(0))
+                .getData().stream().map(DataSeriesItem::getName).toList();
+    }
+
+    @Test
+    public void appendsNewerVersions() {
+        VersionsTimelineChart chart = new VersionsTimelineChart(null,
+                PLATFORM, info("24.7.0", "2025-03-01", "24.7.1", "2025-03-20")
+                        .get(0));
+        DataSeries series = (DataSeries) chart.getConfiguration().getSeries()
+                .get(0);
+
+        chart.update(info("24.7.0", "2025-03-01", "24.7.1", "2025-03-20",
+                "24.7.2", "2025-04-10"));
+
+        Assertions.assertSame(series,
+                chart.getConfiguration().getSeries().get(0));
+        Assertions.assertEquals(List.of("24.7.0", "24.7.1", "24.7.2"),
+                shown(chart));
+    }
+
+    @Test
+    public void rebuildsSeriesWithoutRemovedVersions() {
+        VersionsTimelineChart chart = new VersionsTimelineChart(null,
+                PLATFORM, info("24.7.0", "2025-03-01", "24.7.1", "2025-03-20",
+                        "24.7.2", "2025-04-10").get(0));
+
+        // a full resync dropped the deleted 24.7.1 tag
+        chart.update(info("24.7.0", "2025-03-01", "24.7.2", "2025-04-10"));
+
+        Assertions.assertEquals(List.of("24.7.0", "24.7.2"), shown(chart));
+    }
+
+    @Test
+    public void rebuildsSeriesForOlderVersions() {
+        VersionsTimelineChart chart = new VersionsTimelineChart(null,
+                PLATFORM, info("24.7.0", "2025-03-01", "24.7.2", "2025-04-10")
+                        .get(0));
+
+        // a tag missed before shows up with an earlier release date
+        chart.update(info("24.7.0", "2025-03-01", "24.7.1", "2025-03-20",
+                "24.7.2", "2025-04-10"));
+
+        Assertions.assertEquals(List.of("24.7.0", "24.7.1", "24.7.2"),
+                shown(chart));
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.vaadin.platform.views.releases;
+
+import static com.vaadin.platform.views.releases.VersionsTimelineChartTest.info;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.charts.util.ChartSerialization;
+
+public class VersionsXRangeChartTest {
+
+    @Test
+    public void keepsTooltipOutOfAccessibleDescription() {
+        VersionsXRangeChart chart = new VersionsXRangeChart(
+                info("24.7.0", "2025-03-01", "24.7.1", "2025-03-20"), false);
+
+        String json = ChartSerialization.toJSON(chart.getConfiguration());
+        Assertions.assertTrue(json.contains("\"tooltip\":\"<span>Mar 01, 2025"),
+                json);
+        Assertions.assertFalse(json.contains("\"description\""), json);
+
+        chart.update(info("24.7.0", "2025-03-01", "24.7.1", "2025-03-20",
+                "24.7.2", "2025-04-10"));
+        json = ChartSerialization.toJSON(chart.getConfiguration());
+        Assertions.assertTrue(json.contains(" - Apr 10, 2025"), json);
+        Assertions.assertFalse(json.contains("\"description\""), json);
+    }
+
+}